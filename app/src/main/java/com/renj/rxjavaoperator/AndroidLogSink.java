@@ -0,0 +1,27 @@
+package com.renj.rxjavaoperator;
+
+import android.util.Log;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   19:45
+ * <p>
+ * 描述：输出到 {@link Log}，在 Android 中运行时的默认输出位置
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public class AndroidLogSink implements LogSink {
+    @Override
+    public void write(int level, String tag, String message) {
+        Log.println(level, tag, message);
+    }
+
+    @Override
+    public void flush() {
+    }
+}
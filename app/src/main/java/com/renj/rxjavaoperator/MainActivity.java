@@ -194,5 +194,7 @@ public class MainActivity extends AppCompatActivity {
         // CreateOperator.timerOperator();
         // CreateOperator.intervalOperator();
         CreateOperator.intervalRangeOperator();
+        // CreateOperator.primitiveRangeOperator();
+        // CreateOperator.chunkedFromIterableOperator();
     }
 }
@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.concurrent.TimeUnit;
 
@@ -38,6 +39,8 @@ import rx.observables.JoinObservable;
  * ======================================================================
  */
 public class CombinationOperator {
+    private static final NamedLogger LOG = Logger.forClass(CombinationOperator.class);
+
     /**
      * 操作符：merger() 操作符<br/>
      * 说明：将两个后多个Observable/Iterable发射的数据组合并成一个。
@@ -53,7 +56,7 @@ public class CombinationOperator {
                 .subscribe(new Consumer<Long>() {
                     @Override
                     public void accept(Long l) throws Exception {
-                        Logger.i("merge operator result => " + l);
+                        LOG.i("merge operator result => " + l);
                     }
                 });
     }
@@ -73,7 +76,7 @@ public class CombinationOperator {
                 .subscribe(new Consumer<Long>() {
                     @Override
                     public void accept(Long l) throws Exception {
-                        Logger.i("concat operator result => " + l);
+                        LOG.i("concat operator result => " + l);
                     }
                 });
     }
@@ -99,7 +102,7 @@ public class CombinationOperator {
         }).subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) throws Exception {
-                Logger.i("zip operator result => " + s);
+                LOG.i("zip operator result => " + s);
             }
         });
 
@@ -143,17 +146,17 @@ public class CombinationOperator {
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("join operator onError => " + e);
+                LOG.e("join operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("join operator onComplete");
+                LOG.i("join operator onComplete");
             }
 
             @Override
             public void onNext(String s) {
-                Logger.i("join operator onNext => " + s);
+                LOG.i("join operator onNext => " + s);
             }
         });
     }
@@ -187,17 +190,17 @@ public class CombinationOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("combineLatest operator result => " + s);
+                LOG.i("combineLatest operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.i("combineLatest operator onError => " + e);
+                LOG.i("combineLatest operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("combineLatest operator onComplete");
+                LOG.i("combineLatest operator onComplete");
             }
         });
     }
@@ -223,7 +226,7 @@ public class CombinationOperator {
         Observable.switchOnNext(observable0).subscribe(new Consumer<String>() {
             @Override
             public void accept(String string) throws Exception {
-                Logger.i("switchOnNext operator result => " + string);
+                LOG.i("switchOnNext operator result => " + string);
             }
         });
 
@@ -237,7 +240,7 @@ public class CombinationOperator {
         }).subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) throws Exception {
-                Logger.i("switch operator result => " + s);
+                LOG.i("switch operator result => " + s);
             }
         });
     }
@@ -253,7 +256,7 @@ public class CombinationOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("startWith operator result => " + integer);
+                        LOG.i("startWith operator result => " + integer);
                     }
                 });
     }
@@ -282,17 +285,17 @@ public class CombinationOperator {
                 .subscribe(new rx.Observer<String>() {
                     @Override
                     public void onCompleted() {
-                        Logger.i("and/then/when operator onCompleted");
+                        LOG.i("and/then/when operator onCompleted");
                     }
 
                     @Override
                     public void onError(Throwable e) {
-                        Logger.e("and/then/when operator onError => " + e);
+                        LOG.e("and/then/when operator onError => " + e);
                     }
 
                     @Override
                     public void onNext(String s) {
-                        Logger.i("and/then/when operator onNext => " + s);
+                        LOG.i("and/then/when operator onNext => " + s);
                     }
                 });
     }
@@ -0,0 +1,105 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import com.renj.rxjavaoperator.operator.Chunk;
+import com.renj.rxjavaoperator.operator.ChunkedObservable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-19   01:30
+ * <p>
+ * 描述：{@link ChunkedObservable} 和逐个发射的 {@code Observable.fromIterable()} 对比，
+ * 按批处理(chunks)以及结束时按 {@code buffer(100)} 打包两种方式
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChunkedSourceBenchmark {
+    private static final int BUFFER_SIZE = 100;
+
+    @Param({"1000", "100000"})
+    public int count;
+    @Param({"256", "4096"})
+    public int chunkSize;
+
+    private List<Integer> mList;
+    private Consumer<Object> mConsumer;
+    private Consumer<Chunk<Integer>> mChunkConsumer;
+    // 倒序取值，不分配对象
+    private Function<Integer, Integer> mReverse;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        final Integer[] array = Pipelines.boxedRange(count);
+        mList = Arrays.asList(array);
+        mConsumer = Pipelines.consumer(blackhole);
+        mChunkConsumer = new Consumer<Chunk<Integer>>() {
+            @Override
+            public void accept(Chunk<Integer> chunk) throws Exception {
+                for (int i = 0, size = chunk.size(); i < size; i++) {
+                    blackhole.consume(chunk.get(i));
+                }
+            }
+        };
+        mReverse = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer integer) throws Exception {
+                return array[array.length - 1 - integer];
+            }
+        };
+    }
+
+    @Benchmark
+    public void fromIterable() {
+        Observable.fromIterable(mList).map(mReverse).filter(Pipelines.EVEN).subscribe(mConsumer);
+    }
+
+    @Benchmark
+    public void chunked() {
+        ChunkedObservable.fromIterableChunked(mList, chunkSize).map(mReverse).filter(Pipelines.EVEN)
+                .toObservable()
+                .subscribe(mChunkConsumer);
+    }
+
+    @Benchmark
+    public void fromIterableBuffer() {
+        Observable.fromIterable(mList).map(mReverse).filter(Pipelines.EVEN).buffer(BUFFER_SIZE).subscribe(mConsumer);
+    }
+
+    @Benchmark
+    public void chunkedBuffer() {
+        ChunkedObservable.fromIterableChunked(mList, chunkSize).map(mReverse).filter(Pipelines.EVEN)
+                .buffer(BUFFER_SIZE)
+                .subscribe(mConsumer);
+    }
+}
@@ -0,0 +1,95 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   22:00
+ * <p>
+ * 描述：组合操作符的基准测试，对应 app 模块 {@code CombinationOperator} 中演示的操作符(该类依赖 rx.joins，不在 benchmark 的类路径中)。
+ * 直接测量 RxJava 自身的操作符：演示中使用 intervalRange() 作为数据源，这里换成同步数据源，只测量操作符本身
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CombinationOperatorBenchmark {
+    private static final BiFunction<Integer, Integer, Integer> SUM = new BiFunction<Integer, Integer, Integer>() {
+        @Override
+        public Integer apply(Integer a, Integer b) throws Exception {
+            return a + b;
+        }
+    };
+
+    @Param({"10", "1000", "100000"})
+    public int count;
+    @Param({"trampoline", "computation"})
+    public String scheduler;
+
+    private Scheduler mScheduler;
+    private Consumer<Object> mConsumer;
+    private Observable<Integer> mFirst;
+    private Observable<Integer> mSecond;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mScheduler = Pipelines.scheduler(scheduler);
+        mConsumer = Pipelines.consumer(blackhole);
+        // 两个数据源各发射一半
+        Integer[] array = Pipelines.boxedRange(Math.max(1, count / 2));
+        mFirst = Observable.fromArray(array);
+        mSecond = Observable.fromArray(array);
+    }
+
+    @Benchmark
+    public void merge() {
+        Pipelines.run(Observable.merge(mFirst, mSecond), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void concat() {
+        Pipelines.run(Observable.concat(mFirst, mSecond), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void zip() {
+        Pipelines.run(Observable.zip(mFirst, mSecond, SUM), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void combineLatest() {
+        Pipelines.run(Observable.combineLatest(mFirst, mSecond, SUM), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void startWith() {
+        Pipelines.run(mSecond.startWith(mFirst), mScheduler, mConsumer);
+    }
+}
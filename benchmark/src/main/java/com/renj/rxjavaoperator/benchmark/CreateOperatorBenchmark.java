@@ -0,0 +1,110 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableOnSubscribe;
+import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Consumer;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   21:45
+ * <p>
+ * 描述：{@link com.renj.rxjavaoperator.operator.CreateOperator} 中创建操作符的基准测试
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateOperatorBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int count;
+    @Param({"trampoline", "computation"})
+    public String scheduler;
+
+    private Scheduler mScheduler;
+    private Consumer<Object> mConsumer;
+    private Integer[] mArray;
+    private List<Integer> mList;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mScheduler = Pipelines.scheduler(scheduler);
+        mConsumer = Pipelines.consumer(blackhole);
+        mArray = Pipelines.boxedRange(count);
+        mList = Arrays.asList(mArray);
+    }
+
+    @Benchmark
+    public void create() {
+        final int n = count;
+        Pipelines.run(Observable.create(new ObservableOnSubscribe<Integer>() {
+            @Override
+            public void subscribe(ObservableEmitter<Integer> e) throws Exception {
+                for (int i = 0; i < n && !e.isDisposed(); i++) {
+                    e.onNext(i);
+                }
+                e.onComplete();
+            }
+        }), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void fromArray() {
+        Pipelines.run(Observable.fromArray(mArray), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void fromIterable() {
+        Pipelines.run(Observable.fromIterable(mList), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void range() {
+        Pipelines.run(Observable.range(0, count), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void defer() {
+        Pipelines.run(Observable.defer(new Callable<ObservableSource<Integer>>() {
+            @Override
+            public ObservableSource<Integer> call() throws Exception {
+                return Observable.fromArray(mArray);
+            }
+        }), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void repeat() {
+        // 和 repatOperator() 相同：重复发射 10 次
+        Pipelines.run(Observable.fromArray(mArray).take(Math.max(1, count / 10)).repeat(10), mScheduler, mConsumer);
+    }
+}
@@ -0,0 +1,83 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Consumer;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   22:05
+ * <p>
+ * 描述：{@link com.renj.rxjavaoperator.operator.ErrorHandlerOperator} 中错误处理操作符的基准测试，
+ * 数据源发射 count 个数据后发生错误
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorHandlerOperatorBenchmark {
+    private static final Exception ERROR = new Exception("benchmark");
+
+    @Param({"10", "1000", "100000"})
+    public int count;
+    @Param({"trampoline", "computation"})
+    public String scheduler;
+
+    private Scheduler mScheduler;
+    private Consumer<Object> mConsumer;
+    private Observable<Integer> mFailing;
+    private Observable<Integer> mFallback;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mScheduler = Pipelines.scheduler(scheduler);
+        mConsumer = Pipelines.consumer(blackhole);
+        mFailing = Observable.fromArray(Pipelines.boxedRange(count)).concatWith(Observable.<Integer>error(ERROR));
+        mFallback = Observable.just(-1, -2);
+    }
+
+    @Benchmark
+    public void onErrorReturnItem() {
+        Pipelines.run(mFailing.onErrorReturnItem(-1), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void onErrorResumeNext() {
+        Pipelines.run(mFailing.onErrorResumeNext(mFallback), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void onExceptionResumeNext() {
+        Pipelines.run(mFailing.onExceptionResumeNext(mFallback), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void retry() {
+        // 重试 2 次后仍然失败，最后返回默认值
+        Pipelines.run(mFailing.retry(2).onErrorReturnItem(-1), mScheduler, mConsumer);
+    }
+}
@@ -0,0 +1,96 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   21:55
+ * <p>
+ * 描述：{@link com.renj.rxjavaoperator.operator.FilterOperator} 中过滤操作符的基准测试
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterOperatorBenchmark {
+    // 每个值重复两次，distinct() 过滤掉一半
+    private static final Function<Integer, Integer> HALF = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer integer) throws Exception {
+            return integer >> 1;
+        }
+    };
+
+    @Param({"10", "1000", "100000"})
+    public int count;
+    @Param({"trampoline", "computation"})
+    public String scheduler;
+
+    private Scheduler mScheduler;
+    private Consumer<Object> mConsumer;
+    private Observable<Integer> mSource;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mScheduler = Pipelines.scheduler(scheduler);
+        mConsumer = Pipelines.consumer(blackhole);
+        mSource = Observable.fromArray(Pipelines.boxedRange(count));
+    }
+
+    @Benchmark
+    public void filter() {
+        Pipelines.run(mSource.filter(Pipelines.EVEN), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void distinct() {
+        Pipelines.run(mSource.map(HALF).distinct(), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void elementAt() {
+        Pipelines.run(mSource.elementAt(count - 1).toObservable(), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void skip() {
+        Pipelines.run(mSource.skip(count / 2), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void take() {
+        Pipelines.run(mSource.take(count / 2), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void last() {
+        Pipelines.run(mSource.last(-1).toObservable(), mScheduler, mConsumer);
+    }
+}
@@ -0,0 +1,111 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import com.renj.rxjavaoperator.LogSink;
+import com.renj.rxjavaoperator.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   22:25
+ * <p>
+ * 描述：{@link Logger} 的基准测试，日志输出到一个只消费内容的 {@link LogSink}。<br/>
+ * legacy 是改造前的写法(每次遍历调用栈、直接拼接字符串)，作为对比；level 为 ERROR 时所有调用都是没有开启的级别
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerBenchmark {
+    @Param({"VERBOSE", "ERROR"})
+    public String level;
+
+    private LogSink mSink;
+    private int mLevel;
+    private int mValue;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        mLevel = "VERBOSE".equals(level) ? Logger.VERBOSE : Logger.ERROR;
+        mSink = new LogSink() {
+            @Override
+            public void write(int level, String tag, String message) {
+                blackhole.consume(message);
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+        Logger.setSink(mSink);
+        Logger.setLogLevel(mLevel);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Logger.setCallSiteEnabled(true);
+        Logger.setLogLevel(Logger.VERBOSE);
+    }
+
+    @Benchmark
+    public void legacy() {
+        mValue++;
+        legacyI("onNext value=" + mValue + " thread=" + Thread.currentThread().getName());
+    }
+
+    @Benchmark
+    public void template() {
+        Logger.setCallSiteEnabled(true);
+        mValue++;
+        Logger.i("onNext value={} thread={}", mValue, Thread.currentThread().getName());
+    }
+
+    @Benchmark
+    public void templateWithoutCallSite() {
+        Logger.setCallSiteEnabled(false);
+        mValue++;
+        Logger.i("onNext value={} thread={}", mValue, Thread.currentThread().getName());
+    }
+
+    /**
+     * 改造前 Logger.i() 的实现
+     */
+    private void legacyI(String msg) {
+        if (mLevel <= Logger.INFO) {
+            mSink.write(Logger.INFO, "RxJava2Operator", legacyTitle() + msg);
+        }
+    }
+
+    private static String legacyTitle() {
+        StackTraceElement elm = Thread.currentThread().getStackTrace()[4];
+        String className = elm.getClassName();
+        int dot = className.lastIndexOf('.');
+        if (dot != -1) {
+            className = className.substring(dot + 1);
+        }
+        return className + "." + elm.getMethodName() + "(" + elm.getLineNumber() + ")" + ": ";
+    }
+}
@@ -0,0 +1,85 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   21:40
+ * <p>
+ * 描述：基准测试共用的调度器、订阅者和函数
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+final class Pipelines {
+    static final Function<Integer, Integer> SQUARE = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer integer) throws Exception {
+            return integer * integer;
+        }
+    };
+
+    static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer integer) throws Exception {
+            return (integer & 1) == 0;
+        }
+    };
+
+    private Pipelines() {
+    }
+
+    /**
+     * @param name trampoline：在当前线程中同步执行；computation / io：subscribeOn 对应的线程，当前线程等待完成
+     * @return trampoline 时返回 null
+     */
+    static Scheduler scheduler(String name) {
+        if ("trampoline".equals(name)) {
+            return null;
+        } else if ("computation".equals(name)) {
+            return Schedulers.computation();
+        } else if ("io".equals(name)) {
+            return Schedulers.io();
+        }
+        throw new IllegalArgumentException("unknown scheduler " + name);
+    }
+
+    static Consumer<Object> consumer(final Blackhole blackhole) {
+        return new Consumer<Object>() {
+            @Override
+            public void accept(Object o) throws Exception {
+                blackhole.consume(o);
+            }
+        };
+    }
+
+    static Integer[] boxedRange(int count) {
+        Integer[] array = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            array[i] = i;
+        }
+        return array;
+    }
+
+    /**
+     * 订阅并等待完成，scheduler 为 null 时同步执行
+     */
+    static void run(Observable<?> observable, Scheduler scheduler, Consumer<Object> consumer) {
+        if (scheduler == null) {
+            observable.subscribe(consumer);
+        } else {
+            observable.subscribeOn(scheduler).blockingSubscribe(consumer);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import com.renj.rxjavaoperator.operator.IntObservable;
+import com.renj.rxjavaoperator.operator.LongObservable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   23:40
+ * <p>
+ * 描述：{@link IntObservable}/{@link LongObservable} 和装箱的 {@link Observable#range(int, int)} 对比，
+ * 主要看 gc 分析器输出的 gc.alloc.rate.norm(每次调用分配的字节数)。<br/>
+ * 数据个数超过 Integer 缓存(-128 ~ 127)，boxed 的每个数据在 filter、map 之后都会分配新对象
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveRangeBenchmark {
+    private static final Predicate<Integer> EVEN = Pipelines.EVEN;
+    private static final Function<Integer, Integer> SQUARE = Pipelines.SQUARE;
+    private static final BiFunction<Integer, Integer, Integer> SUM = new BiFunction<Integer, Integer, Integer>() {
+        @Override
+        public Integer apply(Integer a, Integer b) throws Exception {
+            return a + b;
+        }
+    };
+    private static final Function<Long, Long> LONG_SQUARE = new Function<Long, Long>() {
+        @Override
+        public Long apply(Long value) throws Exception {
+            return value * value;
+        }
+    };
+    private static final BiFunction<Long, Long, Long> LONG_SUM = new BiFunction<Long, Long, Long>() {
+        @Override
+        public Long apply(Long a, Long b) throws Exception {
+            return a + b;
+        }
+    };
+
+    private static final IntObservable.IntPredicate INT_EVEN = new IntObservable.IntPredicate() {
+        @Override
+        public boolean test(int value) throws Exception {
+            return (value & 1) == 0;
+        }
+    };
+    private static final IntObservable.IntMapper INT_SQUARE = new IntObservable.IntMapper() {
+        @Override
+        public int apply(int value) throws Exception {
+            return value * value;
+        }
+    };
+    private static final IntObservable.IntReducer INT_SUM = new IntObservable.IntReducer() {
+        @Override
+        public int apply(int accumulator, int value) throws Exception {
+            return accumulator + value;
+        }
+    };
+    private static final LongObservable.LongMapper PRIMITIVE_LONG_SQUARE = new LongObservable.LongMapper() {
+        @Override
+        public long apply(long value) throws Exception {
+            return value * value;
+        }
+    };
+    private static final LongObservable.LongReducer PRIMITIVE_LONG_SUM = new LongObservable.LongReducer() {
+        @Override
+        public long apply(long accumulator, long value) throws Exception {
+            return accumulator + value;
+        }
+    };
+
+    @Param({"1000", "100000"})
+    public int count;
+
+    private Consumer<Object> mConsumer;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mConsumer = Pipelines.consumer(blackhole);
+    }
+
+    @Benchmark
+    public void boxedRange() {
+        Observable.range(0, count).filter(EVEN).map(SQUARE).reduce(0, SUM).subscribe(mConsumer);
+    }
+
+    @Benchmark
+    public void intRange() {
+        IntObservable.range(0, count).filter(INT_EVEN).map(INT_SQUARE).reduce(0, INT_SUM).subscribe(mConsumer);
+    }
+
+    @Benchmark
+    public void intRangeBoxedAtEnd() {
+        // 只有最后交给 Observer 的数据装箱
+        IntObservable.range(0, count).filter(INT_EVEN).map(INT_SQUARE).boxed().subscribe(mConsumer);
+    }
+
+    @Benchmark
+    public void boxedRangeLong() {
+        Observable.rangeLong(0, count).map(LONG_SQUARE).reduce(0L, LONG_SUM).subscribe(mConsumer);
+    }
+
+    @Benchmark
+    public void longRange() {
+        LongObservable.range(0, count).map(PRIMITIVE_LONG_SQUARE).reduce(0L, PRIMITIVE_LONG_SUM).subscribe(mConsumer);
+    }
+}
@@ -0,0 +1,156 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import com.renj.rxjavaoperator.operator.RxBus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   22:10
+ * <p>
+ * 描述：{@link RxBus} 发送事件的基准测试。<br/>
+ * 有 types 种事件类型，每种类型 subscribers 个订阅者，每次发送 count 个同一类型的事件；
+ * subject 是改造前的实现(所有订阅者共用一个 Subject，各自用 ofType() 过滤)，作为对比
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RxBusBenchmark {
+    static final Class<?>[] EVENT_TYPES = {
+            Event0.class, Event1.class, Event2.class, Event3.class,
+            Event4.class, Event5.class, Event6.class, Event7.class,
+            Event8.class, Event9.class, Event10.class, Event11.class,
+            Event12.class, Event13.class, Event14.class, Event15.class
+    };
+
+    @Param({"10", "1000"})
+    public int count;
+    @Param({"1", "16"})
+    public int types;
+    @Param({"1", "4"})
+    public int subscribers;
+
+    private RxBus mRxBus;
+    private Subject<Object> mSubject;
+    private CompositeDisposable mDisposables;
+    private Event0[] mEvents;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mRxBus = RxBus.create(1);
+        mSubject = PublishSubject.create().toSerialized();
+        mDisposables = new CompositeDisposable();
+        Consumer<Object> consumer = Pipelines.consumer(blackhole);
+        for (int i = 0; i < types; i++) {
+            for (int j = 0; j < subscribers; j++) {
+                mDisposables.add(mRxBus.tObservable(EVENT_TYPES[i]).subscribe(consumer));
+                mDisposables.add(mSubject.ofType(EVENT_TYPES[i]).subscribe(consumer));
+            }
+        }
+        mEvents = new Event0[count];
+        for (int i = 0; i < count; i++) {
+            mEvents[i] = new Event0(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mDisposables.dispose();
+    }
+
+    @Benchmark
+    public void rxBus() {
+        for (Event0 event : mEvents) {
+            mRxBus.post(event);
+        }
+    }
+
+    @Benchmark
+    public void subject() {
+        for (Event0 event : mEvents) {
+            mSubject.onNext(event);
+        }
+    }
+
+    static class Event0 {
+        final int value;
+
+        Event0(int value) {
+            this.value = value;
+        }
+    }
+
+    static class Event1 {
+    }
+
+    static class Event2 {
+    }
+
+    static class Event3 {
+    }
+
+    static class Event4 {
+    }
+
+    static class Event5 {
+    }
+
+    static class Event6 {
+    }
+
+    static class Event7 {
+    }
+
+    static class Event8 {
+    }
+
+    static class Event9 {
+    }
+
+    static class Event10 {
+    }
+
+    static class Event11 {
+    }
+
+    static class Event12 {
+    }
+
+    static class Event13 {
+    }
+
+    static class Event14 {
+    }
+
+    static class Event15 {
+    }
+}
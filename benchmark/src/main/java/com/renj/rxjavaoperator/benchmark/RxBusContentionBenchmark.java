@@ -0,0 +1,84 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import com.renj.rxjavaoperator.operator.RxBus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.functions.Consumer;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   22:15
+ * <p>
+ * 描述：多个线程同时向 {@link RxBus} 发送事件的基准测试，每个线程发送不同类型的事件，
+ * 对比不分片(shards = 1)和分片时的吞吐量
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RxBusContentionBenchmark {
+    @Param({"1", "4"})
+    public int shards;
+
+    private RxBus mRxBus;
+    private CompositeDisposable mDisposables;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mRxBus = RxBus.create(shards);
+        mDisposables = new CompositeDisposable();
+        Consumer<Object> consumer = Pipelines.consumer(blackhole);
+        for (Class<?> type : RxBusBenchmark.EVENT_TYPES) {
+            mDisposables.add(mRxBus.tObservable(type).subscribe(consumer));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mDisposables.dispose();
+    }
+
+    @Benchmark
+    public void post(Poster poster) {
+        mRxBus.post(poster.event);
+    }
+
+    @State(Scope.Thread)
+    public static class Poster {
+        Object event;
+
+        @Setup
+        public void setup(ThreadParams threadParams) throws Exception {
+            Class<?>[] types = RxBusBenchmark.EVENT_TYPES;
+            event = types[(threadParams.getThreadIndex() + 1) % types.length].newInstance();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import com.renj.rxjavaoperator.operator.RxBus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   22:20
+ * <p>
+ * 描述：{@link RxBus} 异步分发的基准测试，每次发送 count 个事件并等待所有订阅者收到。<br/>
+ * 对比内置分发线程池 {@link RxBus#tObservableAsync(Class)} 和每个订阅者各自 observeOn(Schedulers.computation())
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RxBusDeliveryBenchmark {
+    @Param({"10", "1000"})
+    public int count;
+    @Param({"1", "16"})
+    public int subscribers;
+    @Param({"executor", "observeOn"})
+    public String delivery;
+
+    private final AtomicLong mReceived = new AtomicLong();
+    private RxBus mRxBus;
+    private CompositeDisposable mDisposables;
+    private RxBusBenchmark.Event0[] mEvents;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        mRxBus = RxBus.create(1);
+        mDisposables = new CompositeDisposable();
+        Consumer<RxBusBenchmark.Event0> consumer = new Consumer<RxBusBenchmark.Event0>() {
+            @Override
+            public void accept(RxBusBenchmark.Event0 event) throws Exception {
+                blackhole.consume(event);
+                mReceived.incrementAndGet();
+            }
+        };
+        for (int i = 0; i < subscribers; i++) {
+            if ("executor".equals(delivery)) {
+                mDisposables.add(mRxBus.tObservableAsync(RxBusBenchmark.Event0.class).subscribe(consumer));
+            } else {
+                mDisposables.add(mRxBus.tObservable(RxBusBenchmark.Event0.class)
+                        .observeOn(Schedulers.computation())
+                        .subscribe(consumer));
+            }
+        }
+        mEvents = new RxBusBenchmark.Event0[count];
+        for (int i = 0; i < count; i++) {
+            mEvents[i] = new RxBusBenchmark.Event0(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mDisposables.dispose();
+    }
+
+    @Benchmark
+    public void postAndAwait() {
+        long expected = mReceived.get() + (long) count * subscribers;
+        for (RxBusBenchmark.Event0 event : mEvents) {
+            mRxBus.post(event);
+        }
+        while (mReceived.get() < expected) {
+            Thread.yield();
+        }
+    }
+}
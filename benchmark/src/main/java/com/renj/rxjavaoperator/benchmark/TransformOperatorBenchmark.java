@@ -0,0 +1,104 @@
+package com.renj.rxjavaoperator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   21:50
+ * <p>
+ * 描述：{@link com.renj.rxjavaoperator.operator.TransformOperator} 中变换操作符的基准测试
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransformOperatorBenchmark {
+    private static final Function<Integer, ObservableSource<Integer>> JUST = new Function<Integer, ObservableSource<Integer>>() {
+        @Override
+        public ObservableSource<Integer> apply(Integer integer) throws Exception {
+            return Observable.just(integer * integer);
+        }
+    };
+
+    private static final BiFunction<Integer, Integer, Integer> SUM = new BiFunction<Integer, Integer, Integer>() {
+        @Override
+        public Integer apply(Integer a, Integer b) throws Exception {
+            return a + b;
+        }
+    };
+
+    @Param({"10", "1000", "100000"})
+    public int count;
+    @Param({"trampoline", "computation"})
+    public String scheduler;
+
+    private Scheduler mScheduler;
+    private Consumer<Object> mConsumer;
+    private Observable<Integer> mSource;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mScheduler = Pipelines.scheduler(scheduler);
+        mConsumer = Pipelines.consumer(blackhole);
+        mSource = Observable.fromArray(Pipelines.boxedRange(count));
+    }
+
+    @Benchmark
+    public void map() {
+        Pipelines.run(mSource.map(Pipelines.SQUARE), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void flatMap() {
+        Pipelines.run(mSource.flatMap(JUST), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void concatMap() {
+        Pipelines.run(mSource.concatMap(JUST), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void scan() {
+        Pipelines.run(mSource.scan(SUM), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void reduce() {
+        Pipelines.run(mSource.reduce(0, SUM).toObservable(), mScheduler, mConsumer);
+    }
+
+    @Benchmark
+    public void buffer() {
+        Pipelines.run(mSource.buffer(16), mScheduler, mConsumer);
+    }
+}
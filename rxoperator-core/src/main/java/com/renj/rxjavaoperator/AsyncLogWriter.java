@@ -0,0 +1,215 @@
+package com.renj.rxjavaoperator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   19:05
+ * <p>
+ * 描述：{@link Logger} 的异步写出，多个线程写入、一个后台线程读取的无锁环形缓冲区。<br/>
+ * 缓冲区中的记录在创建时全部分配好，打印日志的线程只保存级别、模板和参数(不格式化)，
+ * 由后台线程格式化并写出，所以参数对象在写出之前不应该被修改。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+final class AsyncLogWriter implements Runnable {
+    // 后台线程空闲时最长的等待时间
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Slot[] mSlots;
+    private final int mMask;
+    private final LogOverflowStrategy mStrategy;
+    private final int mSampleRate;
+    // 下一个可以写入的序号
+    private final AtomicLong mClaimed = new AtomicLong();
+    // 下一个需要读取的序号，只由后台线程修改
+    private volatile long mConsumed;
+    // 已经写出的记录个数，只由后台线程修改
+    private volatile long mWritten;
+    private final AtomicLong mDropped = new AtomicLong();
+    private final AtomicLong mSampleCounter = new AtomicLong();
+    private final Thread mThread;
+    private volatile boolean mSleeping;
+    private volatile boolean mStopped;
+
+    AsyncLogWriter(int capacity, LogOverflowStrategy strategy, int sampleRate) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity > 0 required but it was " + capacity);
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate > 0 required but it was " + sampleRate);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mSlots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            mSlots[i] = new Slot();
+        }
+        mMask = size - 1;
+        mStrategy = strategy;
+        mSampleRate = sampleRate;
+        mThread = new Thread(this, "Logger-async");
+        mThread.setDaemon(true);
+    }
+
+    void start() {
+        mThread.start();
+    }
+
+    /**
+     * 写入一条日志
+     *
+     * @return false 表示已经停止，需要调用者自己写出；被丢弃时返回 true
+     */
+    boolean publish(int level, String tag, String title, String template,
+                    int argCount, Object arg1, Object arg2, Object[] args) {
+        long sequence;
+        for (; ; ) {
+            if (mStopped) {
+                return false;
+            }
+            sequence = mClaimed.get();
+            long used = sequence - mConsumed;
+            if (used >= mSlots.length) {
+                if (mStrategy == LogOverflowStrategy.BLOCK) {
+                    wakeUp();
+                    LockSupport.parkNanos(1000);
+                    continue;
+                }
+                mDropped.incrementAndGet();
+                return true;
+            }
+            if (mStrategy == LogOverflowStrategy.SAMPLE && used >= mSlots.length >> 1
+                    && mSampleCounter.incrementAndGet() % mSampleRate != 0) {
+                mDropped.incrementAndGet();
+                return true;
+            }
+            if (mClaimed.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+        Slot slot = mSlots[(int) (sequence & mMask)];
+        slot.level = level;
+        slot.tag = tag;
+        slot.title = title;
+        slot.template = template;
+        slot.argCount = argCount;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.args = args;
+        // 最后写入序号，后台线程看到序号后才会读取
+        slot.sequence = sequence;
+        if (mSleeping) {
+            wakeUp();
+        }
+        return true;
+    }
+
+    /**
+     * 等待之前写入的日志全部写出
+     */
+    void flush() {
+        long target = mClaimed.get();
+        while (mWritten < target && mThread.isAlive()) {
+            wakeUp();
+            LockSupport.parkNanos(100000);
+        }
+    }
+
+    /**
+     * 写出缓冲区中所有的日志后停止后台线程
+     */
+    void stop() {
+        mStopped = true;
+        wakeUp();
+        boolean interrupted = false;
+        while (mThread.isAlive()) {
+            try {
+                mThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getDroppedCount() {
+        return mDropped.get();
+    }
+
+    private void wakeUp() {
+        LockSupport.unpark(mThread);
+    }
+
+    @Override
+    public void run() {
+        StringBuilder builder = new StringBuilder(256);
+        long next = mConsumed;
+        for (; ; ) {
+            Slot slot = mSlots[(int) (next & mMask)];
+            if (slot.sequence == next) {
+                int level = slot.level;
+                String tag = slot.tag;
+                String title = slot.title;
+                String template = slot.template;
+                int argCount = slot.argCount;
+                Object arg1 = slot.arg1;
+                Object arg2 = slot.arg2;
+                Object[] args = slot.args;
+                slot.tag = null;
+                slot.title = null;
+                slot.template = null;
+                slot.arg1 = null;
+                slot.arg2 = null;
+                slot.args = null;
+                // 读取完成后这个位置就可以被重新写入
+                mConsumed = ++next;
+                try {
+                    Logger.write(builder, level, tag, title, template, argCount, arg1, arg2, args);
+                } catch (RuntimeException ignored) {
+                    // 参数的 toString() 出错时跳过这条日志
+                }
+                if (builder.capacity() > Logger.MAX_BUFFER_SIZE) {
+                    builder = new StringBuilder(256);
+                }
+                mWritten = next;
+                continue;
+            }
+            if (mStopped && mClaimed.get() == next) {
+                return;
+            }
+            mSleeping = true;
+            if (slot.sequence != next && !mStopped) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            mSleeping = false;
+        }
+    }
+
+    /**
+     * 缓冲区中的一条记录，创建后重复使用
+     */
+    static final class Slot {
+        // 写入完成的序号，初始值 -1 表示还没有写入
+        volatile long sequence = -1;
+        int level;
+        String tag;
+        String title;
+        String template;
+        int argCount;
+        Object arg1;
+        Object arg2;
+        Object[] args;
+    }
+}
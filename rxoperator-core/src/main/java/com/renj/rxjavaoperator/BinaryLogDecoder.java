@@ -0,0 +1,155 @@
+package com.renj.rxjavaoperator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   20:50
+ * <p>
+ * 描述：把 {@link BinaryLogWriter} 写入的二进制日志还原为文本，每行格式和 {@link FileLogSink} 相同：
+ * "yyyy-MM-dd HH:mm:ss.SSS I/tag: message"。<br/>
+ * 命令行使用：<code>java com.renj.rxjavaoperator.BinaryLogDecoder log.bin</code>
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public final class BinaryLogDecoder {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private BinaryLogDecoder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: BinaryLogDecoder <file>");
+            System.exit(1);
+        }
+        Writer out = new OutputStreamWriter(System.out, UTF_8);
+        decode(new File(args[0]), out);
+        out.flush();
+    }
+
+    /**
+     * 解码整个文件，写到到 out 中
+     *
+     * @param file
+     * @param out
+     * @return 解码的日志条数
+     * @throws IOException
+     */
+    public static int decode(File file, Appendable out) throws IOException {
+        FileInputStream input = new FileInputStream(file);
+        try {
+            FileChannel channel = input.getChannel();
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer, out);
+        } finally {
+            input.close();
+        }
+    }
+
+    static int decode(ByteBuffer buffer, Appendable out) throws IOException {
+        if (buffer.remaining() < BinaryLogWriter.HEADER_SIZE || buffer.getInt() != BinaryLogWriter.MAGIC) {
+            throw new IOException("not a binary log");
+        }
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS ", Locale.US);
+        Date date = new Date();
+        List<String[]> callSites = new ArrayList<>();
+        callSites.add(null);
+        List<Object> fields = new ArrayList<>();
+        StringBuilder line = new StringBuilder(256);
+        long time = 0;
+        int count = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                byte type = buffer.get();
+                if (type == BinaryLogWriter.RECORD_CALL_SITE) {
+                    int id = (int) getVarLong(buffer);
+                    String[] callSite = {getString(buffer), getString(buffer), getString(buffer)};
+                    while (callSites.size() <= id) {
+                        callSites.add(null);
+                    }
+                    callSites.set(id, callSite);
+                } else if (type == BinaryLogWriter.RECORD_LOG) {
+                    time += getVarLong(buffer);
+                    int level = buffer.get();
+                    String[] callSite = callSites.get((int) getVarLong(buffer));
+                    int argCount = (int) getVarLong(buffer);
+                    fields.clear();
+                    for (int i = 0; i < argCount; i++) {
+                        fields.add(getField(buffer));
+                    }
+                    date.setTime(time);
+                    line.setLength(0);
+                    line.append(dateFormat.format(date)).append(Logger.levelChar(level)).append('/')
+                            .append(callSite[0]).append(": ").append(callSite[1]);
+                    Logger.format(line, callSite[2], argCount, null, null, fields.toArray());
+                    out.append(line).append('\n');
+                    count++;
+                } else {
+                    // 结尾或者没有写完的记录
+                    break;
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // 文件在写入过程中被截断
+        }
+        return count;
+    }
+
+    private static Object getField(ByteBuffer buffer) throws IOException {
+        byte type = buffer.get();
+        switch (type) {
+            case BinaryLogWriter.FIELD_NULL:
+                return null;
+            case BinaryLogWriter.FIELD_INT:
+                return (int) BinaryLogWriter.unZigZag(getVarLong(buffer));
+            case BinaryLogWriter.FIELD_LONG:
+                return BinaryLogWriter.unZigZag(getVarLong(buffer));
+            case BinaryLogWriter.FIELD_DOUBLE:
+                return buffer.getDouble();
+            case BinaryLogWriter.FIELD_BOOLEAN:
+                return buffer.get() != 0;
+            case BinaryLogWriter.FIELD_STRING:
+                return getString(buffer);
+            default:
+                throw new IOException("unknown field type " + type);
+        }
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        for (; ; ) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[(int) getVarLong(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -0,0 +1,304 @@
+package com.renj.rxjavaoperator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   20:40
+ * <p>
+ * 描述：{@link Logger} 的结构化二进制输出，写入内存映射文件，通过 {@link Logger#setStructuredWriter(BinaryLogWriter)} 开启。<br/>
+ * 打印日志时不格式化字符串，只记录时间、级别、调用位置 id 和带类型的参数，用 {@link BinaryLogDecoder} 离线还原为文本。<br/>
+ * ① 每个调用位置(Tag + 调用位置 + 模板)第一次出现时写入一条定义记录，之后的日志只写它的 id；<br/>
+ * ② 时间记录为和上一条的差值，整数使用变长编码，大部分日志只有十几个字节；<br/>
+ * ③ 每条记录的类型字节最后写入，写到一半的记录类型为 0，解码时作为结尾；<br/>
+ * ④ 文件写满时映射区域扩大一倍。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public final class BinaryLogWriter implements Closeable {
+    static final int MAGIC = 0x52584C31; // "RXL1"
+    static final int HEADER_SIZE = 4;
+    // 记录类型
+    static final byte RECORD_END = 0;
+    static final byte RECORD_CALL_SITE = 1;
+    static final byte RECORD_LOG = 2;
+    // 参数类型
+    static final byte FIELD_NULL = 0;
+    static final byte FIELD_INT = 1;
+    static final byte FIELD_LONG = 2;
+    static final byte FIELD_DOUBLE = 3;
+    static final byte FIELD_BOOLEAN = 4;
+    static final byte FIELD_STRING = 5;
+    // 没有参数的日志使用这个模板，内容作为一个字符串参数
+    static final String TEXT_TEMPLATE = "{}";
+
+    private static final int INITIAL_SIZE = 1024 * 1024;
+
+    private final RandomAccessFile mFile;
+    private final FileChannel mChannel;
+    private MappedByteBuffer mBuffer;
+    // 调用位置 -> id
+    private final HashMap<CallSite, Integer> mCallSiteIds = new HashMap<>();
+    // 查找时复用，避免每条日志创建对象
+    private final CallSite mProbe = new CallSite();
+    private long mLastTime;
+    private boolean mClosed;
+
+    /**
+     * 创建(已经存在时清空)二进制日志文件
+     *
+     * @param file
+     * @return
+     * @throws IOException
+     */
+    public static BinaryLogWriter open(File file) throws IOException {
+        return new BinaryLogWriter(file);
+    }
+
+    private BinaryLogWriter(File file) throws IOException {
+        mFile = new RandomAccessFile(file, "rw");
+        try {
+            mFile.setLength(0);
+            mChannel = mFile.getChannel();
+            mBuffer = mChannel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_SIZE);
+            mBuffer.putInt(MAGIC);
+        } catch (IOException e) {
+            mFile.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 写入一条日志，参数个数不超过 2 个时使用 arg1/arg2，否则使用 args
+     */
+    synchronized void write(int level, String tag, String title, String template,
+                            int argCount, Object arg1, Object arg2, Object[] args) {
+        if (mClosed) {
+            return;
+        }
+        if (argCount == 0) {
+            arg1 = template;
+            template = TEXT_TEMPLATE;
+            argCount = 1;
+        }
+        long time = System.currentTimeMillis();
+        try {
+            int id = callSiteId(tag, title == null ? "" : title, template);
+            for (; ; ) {
+                int start = mBuffer.position();
+                try {
+                    mBuffer.put(RECORD_END);
+                    putVarLong(time - mLastTime);
+                    mBuffer.put((byte) level);
+                    putVarLong(id);
+                    putVarLong(argCount);
+                    for (int i = 0; i < argCount; i++) {
+                        putField(args != null ? args[i] : (i == 0 ? arg1 : arg2));
+                    }
+                    mBuffer.put(start, RECORD_LOG);
+                    mLastTime = time;
+                    return;
+                } catch (BufferOverflowException e) {
+                    clear(start);
+                    grow(start);
+                } catch (RuntimeException e) {
+                    // 参数的 toString() 出错时丢弃这条日志，不能留下写了一半的记录(类型为 RECORD_END 会被当作文件结尾)
+                    clear(start);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 文件无法扩大时不再写入
+            mClosed = true;
+        }
+    }
+
+    /**
+     * 同步到磁盘
+     */
+    public synchronized void flush() {
+        if (!mClosed) {
+            mBuffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!mClosed) {
+            mClosed = true;
+            mBuffer.force();
+        }
+        mFile.close();
+    }
+
+    private int callSiteId(String tag, String title, String template) throws IOException {
+        mProbe.set(tag, title, template);
+        Integer id = mCallSiteIds.get(mProbe);
+        if (id != null) {
+            return id;
+        }
+        int newId = mCallSiteIds.size() + 1;
+        for (; ; ) {
+            int start = mBuffer.position();
+            try {
+                mBuffer.put(RECORD_END);
+                putVarLong(newId);
+                putString(tag);
+                putString(title);
+                putString(template);
+                mBuffer.put(start, RECORD_CALL_SITE);
+                break;
+            } catch (BufferOverflowException e) {
+                clear(start);
+                grow(start);
+            }
+        }
+        CallSite callSite = new CallSite();
+        callSite.set(tag, title, template);
+        mCallSiteIds.put(callSite, newId);
+        return newId;
+    }
+
+    private void putField(Object value) {
+        if (value == null) {
+            mBuffer.put(FIELD_NULL);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            mBuffer.put(FIELD_INT);
+            putVarLong(zigZag(((Number) value).intValue()));
+        } else if (value instanceof Long) {
+            mBuffer.put(FIELD_LONG);
+            putVarLong(zigZag((Long) value));
+        } else if (value instanceof Double || value instanceof Float) {
+            mBuffer.put(FIELD_DOUBLE);
+            mBuffer.putDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            mBuffer.put(FIELD_BOOLEAN);
+            mBuffer.put((Boolean) value ? (byte) 1 : (byte) 0);
+        } else {
+            mBuffer.put(FIELD_STRING);
+            putString(value.toString());
+        }
+    }
+
+    private void putVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            mBuffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        mBuffer.put((byte) value);
+    }
+
+    /**
+     * 写入 UTF-8 字符串：字节数 + 内容
+     */
+    private void putString(String value) {
+        int length = value.length();
+        int utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length++;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else {
+                utf8Length += 3;
+            }
+        }
+        putVarLong(utf8Length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                mBuffer.put((byte) c);
+            } else if (c < 0x800) {
+                mBuffer.put((byte) (0xC0 | (c >> 6)));
+                mBuffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                mBuffer.put((byte) (0xF0 | (codePoint >> 18)));
+                mBuffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                mBuffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                mBuffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                // 单独的代理字符按 3 个字节写入，解码时替换为 '?'
+                mBuffer.put((byte) (0xE0 | (c >> 12)));
+                mBuffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                mBuffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * 清除写入失败的记录留下的内容
+     */
+    private void clear(int start) {
+        for (int i = start, end = mBuffer.position(); i < end; i++) {
+            mBuffer.put(i, (byte) 0);
+        }
+        mBuffer.position(start);
+    }
+
+    private void grow(int position) throws IOException {
+        long size = (long) mBuffer.capacity() * 2;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("log file is full");
+        }
+        mBuffer.force();
+        mBuffer = mChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        mBuffer.position(position);
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 调用位置：Tag + 调用位置 + 模板
+     */
+    static final class CallSite {
+        String tag;
+        String title;
+        String template;
+        int hash;
+
+        void set(String tag, String title, String template) {
+            this.tag = tag;
+            this.title = title;
+            this.template = template;
+            this.hash = (tag.hashCode() * 31 + title.hashCode()) * 31 + template.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CallSite)) {
+                return false;
+            }
+            CallSite other = (CallSite) o;
+            return hash == other.hash && template.equals(other.template)
+                    && title.equals(other.title) && tag.equals(other.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
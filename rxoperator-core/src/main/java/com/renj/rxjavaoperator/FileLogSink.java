@@ -0,0 +1,172 @@
+package com.renj.rxjavaoperator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   19:55
+ * <p>
+ * 描述：输出到文件，每行格式为 "yyyy-MM-dd HH:mm:ss.SSS I/tag: message"。<br/>
+ * ① 先编码到一个 direct buffer 中，满了之后或者调用 {@link #flush()} 时一次写入文件；<br/>
+ * ② 文件超过 maxFileSize 后滚动：log → log.1 → log.2 …，最多保留 maxBackupCount 个旧文件。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public class FileLogSink implements LogSink, Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File mFile;
+    private final long mMaxFileSize;
+    private final int mMaxBackupCount;
+    private final ByteBuffer mBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder mEncoder = Charset.forName("UTF-8").newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final SimpleDateFormat mDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS ", Locale.US);
+    private final Date mDate = new Date();
+    private final StringBuilder mLine = new StringBuilder(256);
+    private FileChannel mChannel;
+    // 当前文件的大小(包括还在缓冲区中的部分)
+    private long mFileSize;
+
+    /**
+     * @param file           日志文件
+     * @param maxFileSize    单个文件的最大字节数
+     * @param maxBackupCount 最多保留的旧文件个数，为 0 时滚动时直接删除旧内容
+     * @throws IOException
+     */
+    public FileLogSink(File file, long maxFileSize, int maxBackupCount) throws IOException {
+        if (maxFileSize <= 0) {
+            throw new IllegalArgumentException("maxFileSize > 0 required but it was " + maxFileSize);
+        }
+        if (maxBackupCount < 0) {
+            throw new IllegalArgumentException("maxBackupCount >= 0 required but it was " + maxBackupCount);
+        }
+        this.mFile = file;
+        this.mMaxFileSize = maxFileSize;
+        this.mMaxBackupCount = maxBackupCount;
+        open();
+    }
+
+    @Override
+    public synchronized void write(int level, String tag, String message) {
+        if (mChannel == null) {
+            return;
+        }
+        mDate.setTime(System.currentTimeMillis());
+        mLine.setLength(0);
+        mLine.append(mDateFormat.format(mDate)).append(Logger.levelChar(level)).append('/')
+                .append(tag).append(": ").append(message).append('\n');
+        try {
+            if (mFileSize >= mMaxFileSize) {
+                rotate();
+            }
+            int start = mBuffer.position();
+            CharBuffer chars = CharBuffer.wrap(mLine);
+            long written = 0;
+            for (; ; ) {
+                CoderResult result = mEncoder.encode(chars, mBuffer, true);
+                if (result.isOverflow()) {
+                    written += mBuffer.position() - start;
+                    writeBuffer();
+                    start = 0;
+                } else {
+                    break;
+                }
+            }
+            mEncoder.reset();
+            mFileSize += written + mBuffer.position() - start;
+        } catch (IOException e) {
+            // 文件无法写入时不再输出
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (mChannel == null) {
+            return;
+        }
+        try {
+            writeBuffer();
+        } catch (IOException e) {
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (mChannel != null) {
+            try {
+                writeBuffer();
+            } finally {
+                mChannel.close();
+                mChannel = null;
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        mChannel = new FileOutputStream(mFile, true).getChannel();
+        mFileSize = mChannel.size();
+    }
+
+    private void writeBuffer() throws IOException {
+        mBuffer.flip();
+        while (mBuffer.hasRemaining()) {
+            mChannel.write(mBuffer);
+        }
+        mBuffer.clear();
+    }
+
+    /**
+     * 滚动文件：log.(n-1) → log.n，…，log → log.1
+     */
+    private void rotate() throws IOException {
+        writeBuffer();
+        mChannel.close();
+        mChannel = null;
+        if (mMaxBackupCount == 0) {
+            mFile.delete();
+        } else {
+            new File(mFile.getPath() + "." + mMaxBackupCount).delete();
+            for (int i = mMaxBackupCount - 1; i >= 1; i--) {
+                File backup = new File(mFile.getPath() + "." + i);
+                if (backup.exists()) {
+                    backup.renameTo(new File(mFile.getPath() + "." + (i + 1)));
+                }
+            }
+            mFile.renameTo(new File(mFile.getPath() + ".1"));
+        }
+        open();
+    }
+
+    private void closeQuietly() {
+        try {
+            if (mChannel != null) {
+                mChannel.close();
+            }
+        } catch (IOException ignored) {
+        } finally {
+            mChannel = null;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.renj.rxjavaoperator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   21:10
+ * <p>
+ * 描述：限流/采样打印日志，每个打印日志的位置使用一个对象(一般保存为静态变量)，计数器不使用锁。<br/>
+ * ① {@link Logger#rateLimit(int)}：每秒最多打印 N 条；<br/>
+ * ② {@link Logger#everyNth(int)}：每 N 条打印 1 条；<br/>
+ * ③ {@link Logger#sample(double)}：按概率打印。<br/>
+ * 被丢弃的日志会计数，距离上次汇总超过 1 秒后，下一条打印的日志之前先打印一条 "suppressed K messages" 的汇总。
+ * <pre>
+ *  <code>private static final LogLimiter LOG = Logger.rateLimit(10);</code>
+ *  <code>LOG.i("flatMap operator result => {}", string);</code>
+ * </pre>
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public final class LogLimiter {
+    private static final int MODE_RATE = 0;
+    private static final int MODE_EVERY_NTH = 1;
+    private static final int MODE_SAMPLE = 2;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SUMMARY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String SUMMARY_TEMPLATE = "suppressed {} messages";
+
+    private final int mMode;
+    // 每秒条数、间隔或者概率阈值
+    private final long mLimit;
+    // 使用哪个 NamedLogger 的级别和 Tag，为 null 时使用 Logger 全局的设置
+    private final NamedLogger mLogger;
+    private final String mTag;
+    private final String mPrefix;
+    private final AtomicLong mCounter = new AtomicLong();
+    private final AtomicLong mWindowStart = new AtomicLong(System.nanoTime());
+    // 上次汇总之后被丢弃的条数
+    private final AtomicLong mSuppressed = new AtomicLong();
+    private final AtomicLong mTotalSuppressed = new AtomicLong();
+    private final AtomicLong mLastSummary = new AtomicLong(System.nanoTime());
+
+    private LogLimiter(int mode, long limit, NamedLogger logger) {
+        this.mMode = mode;
+        this.mLimit = limit;
+        this.mLogger = logger;
+        this.mTag = logger == null ? null : logger.getTag();
+        this.mPrefix = logger == null ? null : logger.getPrefix();
+    }
+
+    static LogLimiter rateLimit(int perSecond, NamedLogger logger) {
+        if (perSecond <= 0) {
+            throw new IllegalArgumentException("perSecond > 0 required but it was " + perSecond);
+        }
+        return new LogLimiter(MODE_RATE, perSecond, logger);
+    }
+
+    static LogLimiter everyNth(int n, NamedLogger logger) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n > 0 required but it was " + n);
+        }
+        return new LogLimiter(MODE_EVERY_NTH, n, logger);
+    }
+
+    static LogLimiter sample(double probability, NamedLogger logger) {
+        if (!(probability > 0 && probability <= 1)) {
+            throw new IllegalArgumentException("probability must be in (0, 1] but it was " + probability);
+        }
+        // 概率换算为 63 位整数的阈值
+        return new LogLimiter(MODE_SAMPLE, (long) (probability * Long.MAX_VALUE), logger);
+    }
+
+    /**
+     * 是否打印这个级别的日志
+     *
+     * @param level
+     * @return
+     */
+    public boolean isEnabled(int level) {
+        return mLogger == null ? Logger.isEnabled(level) : mLogger.isEnabled(level);
+    }
+
+    /**
+     * 一共被丢弃的日志条数
+     *
+     * @return
+     */
+    public long getSuppressedCount() {
+        return mTotalSuppressed.get();
+    }
+
+    public void v(String msg) {
+        if (isEnabled(Logger.VERBOSE) && acquire(Logger.VERBOSE)) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, msg, 0, null, null, null);
+        }
+    }
+
+    public void v(String template, Object arg) {
+        if (isEnabled(Logger.VERBOSE) && acquire(Logger.VERBOSE)) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, template, 1, arg, null, null);
+        }
+    }
+
+    public void v(String template, Object arg1, Object arg2) {
+        if (isEnabled(Logger.VERBOSE) && acquire(Logger.VERBOSE)) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void v(String template, Object... args) {
+        if (isEnabled(Logger.VERBOSE) && acquire(Logger.VERBOSE)) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void d(String msg) {
+        if (isEnabled(Logger.DEBUG) && acquire(Logger.DEBUG)) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, msg, 0, null, null, null);
+        }
+    }
+
+    public void d(String template, Object arg) {
+        if (isEnabled(Logger.DEBUG) && acquire(Logger.DEBUG)) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, template, 1, arg, null, null);
+        }
+    }
+
+    public void d(String template, Object arg1, Object arg2) {
+        if (isEnabled(Logger.DEBUG) && acquire(Logger.DEBUG)) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void d(String template, Object... args) {
+        if (isEnabled(Logger.DEBUG) && acquire(Logger.DEBUG)) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void i(String msg) {
+        if (isEnabled(Logger.INFO) && acquire(Logger.INFO)) {
+            Logger.log(mTag, mPrefix, Logger.INFO, msg, 0, null, null, null);
+        }
+    }
+
+    public void i(String template, Object arg) {
+        if (isEnabled(Logger.INFO) && acquire(Logger.INFO)) {
+            Logger.log(mTag, mPrefix, Logger.INFO, template, 1, arg, null, null);
+        }
+    }
+
+    public void i(String template, Object arg1, Object arg2) {
+        if (isEnabled(Logger.INFO) && acquire(Logger.INFO)) {
+            Logger.log(mTag, mPrefix, Logger.INFO, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void i(String template, Object... args) {
+        if (isEnabled(Logger.INFO) && acquire(Logger.INFO)) {
+            Logger.log(mTag, mPrefix, Logger.INFO, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void w(String msg) {
+        if (isEnabled(Logger.WARN) && acquire(Logger.WARN)) {
+            Logger.log(mTag, mPrefix, Logger.WARN, msg, 0, null, null, null);
+        }
+    }
+
+    public void w(String template, Object arg) {
+        if (isEnabled(Logger.WARN) && acquire(Logger.WARN)) {
+            Logger.log(mTag, mPrefix, Logger.WARN, template, 1, arg, null, null);
+        }
+    }
+
+    public void w(String template, Object arg1, Object arg2) {
+        if (isEnabled(Logger.WARN) && acquire(Logger.WARN)) {
+            Logger.log(mTag, mPrefix, Logger.WARN, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void w(String template, Object... args) {
+        if (isEnabled(Logger.WARN) && acquire(Logger.WARN)) {
+            Logger.log(mTag, mPrefix, Logger.WARN, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void e(String msg) {
+        if (isEnabled(Logger.ERROR) && acquire(Logger.ERROR)) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, msg, 0, null, null, null);
+        }
+    }
+
+    public void e(String template, Object arg) {
+        if (isEnabled(Logger.ERROR) && acquire(Logger.ERROR)) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, template, 1, arg, null, null);
+        }
+    }
+
+    public void e(String template, Object arg1, Object arg2) {
+        if (isEnabled(Logger.ERROR) && acquire(Logger.ERROR)) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void e(String template, Object... args) {
+        if (isEnabled(Logger.ERROR) && acquire(Logger.ERROR)) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    /**
+     * 判断这条日志是否可以打印，可以打印时顺便打印汇总
+     */
+    private boolean acquire(int level) {
+        long now = System.nanoTime();
+        boolean allowed;
+        switch (mMode) {
+            case MODE_RATE:
+                long windowStart = mWindowStart.get();
+                if (now - windowStart >= WINDOW_NANOS && mWindowStart.compareAndSet(windowStart, now)) {
+                    // 进入新的一秒，只有一个线程可以重置计数
+                    mCounter.set(0);
+                }
+                allowed = mCounter.incrementAndGet() <= mLimit;
+                break;
+            case MODE_EVERY_NTH:
+                allowed = mCounter.getAndIncrement() % mLimit == 0;
+                break;
+            default:
+                allowed = (mix(mCounter.incrementAndGet() + mWindowStart.get()) >>> 1) < mLimit;
+                break;
+        }
+        if (!allowed) {
+            mSuppressed.incrementAndGet();
+            mTotalSuppressed.incrementAndGet();
+            return false;
+        }
+        long lastSummary = mLastSummary.get();
+        if (now - lastSummary >= SUMMARY_INTERVAL_NANOS && mSuppressed.get() > 0
+                && mLastSummary.compareAndSet(lastSummary, now)) {
+            Logger.log(mTag, mPrefix, level, SUMMARY_TEMPLATE, 1, mSuppressed.getAndSet(0), null, null);
+        }
+        return true;
+    }
+
+    /**
+     * 把计数打散为均匀分布的伪随机数
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
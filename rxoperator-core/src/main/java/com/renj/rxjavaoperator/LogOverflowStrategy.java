@@ -0,0 +1,29 @@
+package com.renj.rxjavaoperator;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   19:00
+ * <p>
+ * 描述：{@link Logger#startAsync(int, LogOverflowStrategy)} 异步日志的缓冲区满了之后的处理策略
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public enum LogOverflowStrategy {
+    /**
+     * 缓冲区满了之后，打印日志的线程等待后台线程写出日志，不丢失日志
+     */
+    BLOCK,
+    /**
+     * 缓冲区满了之后丢弃新的日志
+     */
+    DROP,
+    /**
+     * 缓冲区使用超过一半之后，每 sampleRate 条日志只保留一条，满了之后丢弃新的日志
+     */
+    SAMPLE
+}
@@ -0,0 +1,31 @@
+package com.renj.rxjavaoperator;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   19:40
+ * <p>
+ * 描述：{@link Logger} 日志的输出位置，通过 {@link Logger#setSink(LogSink)} 设置。<br/>
+ * 同步模式时会被多个线程同时调用，实现需要线程安全。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public interface LogSink {
+    /**
+     * 写出一条日志
+     *
+     * @param level   {@link Logger#VERBOSE} ~ {@link Logger#ASSERT}
+     * @param tag
+     * @param message 已经格式化好的内容(包括调用位置)
+     */
+    void write(int level, String tag, String message);
+
+    /**
+     * 写出缓存的日志
+     */
+    void flush();
+}
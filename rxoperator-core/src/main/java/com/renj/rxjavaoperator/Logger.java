@@ -0,0 +1,656 @@
+package com.renj.rxjavaoperator;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2017-12-06   11:20
+ * <p>
+ * 描述：Log日志工具类
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：增加参数化日志 <code>Logger.i("x={}", x)</code>，日志级别没有开启时不会格式化字符串；
+ * 格式化使用线程内复用的缓冲区；调用位置按栈帧缓存，也可以通过 {@link #setCallSiteEnabled(boolean)} 关闭，不再遍历调用栈<br/>
+ * 2026-10-18：增加异步模式 {@link #startAsync(int, LogOverflowStrategy)}，日志放入预先分配的环形缓冲区，由后台线程格式化并写出<br/>
+ * 2026-10-18：不再直接依赖 {@code android.util.Log}，日志通过 {@link LogSink} 输出，可以在 JVM 中运行；
+ * 默认在 Android 中输出到 {@code AndroidLogSink}，在 JVM 中输出到 {@link StdoutLogSink}<br/>
+ * 2026-10-18：增加按类/包或按 Tag 设置日志级别 {@link #setLevel(String, int)}，通过 {@link #forClass(Class)}、{@link #forTag(String)}
+ * 获取的 {@link NamedLogger} 保存计算好的级别，判断是否打印只需要读取一个字段<br/>
+ * 2026-10-18：增加结构化二进制输出 {@link #setStructuredWriter(BinaryLogWriter)}，不格式化字符串，用 {@link BinaryLogDecoder} 离线还原<br/>
+ * 2026-10-18：增加限流/采样打印 {@link #rateLimit(int)}、{@link #everyNth(int)}、{@link #sample(double)}，定期汇总被丢弃的条数<br/>
+ * 2026-10-18：移到纯 Java 模块 rxoperator-core，{@code AndroidLogSink} 留在 app 模块中<br/>
+ * 2026-10-18：默认不再打印调用位置(需要遍历调用栈)，需要时通过 {@link #setCallSiteEnabled(boolean)} 打开
+ * <p>
+ * ======================================================================
+ */
+public class Logger {
+    /**
+     * 日志级别，和 {@code android.util.Log} 中的值相同
+     */
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+    public static final int ASSERT = 7;
+
+    // 参数化日志中的占位符
+    private static final String PLACEHOLDER = "{}";
+    // 线程内复用的缓冲区超过这个大小时不再保留
+    static final int MAX_BUFFER_SIZE = 4 * 1024;
+    // SAMPLE 策略默认每 10 条保留 1 条
+    private static final int DEFAULT_SAMPLE_RATE = 10;
+    // 调用位置缓存的最大个数
+    private static final int MAX_CALL_SITE_COUNT = 4 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+    // 栈帧 -> 格式化好的调用位置
+    private static final ConcurrentHashMap<StackTraceElement, String> CALL_SITE_CACHE = new ConcurrentHashMap<>();
+    // 异步模式的写出线程，同步模式时为 null
+    private static volatile AsyncLogWriter ASYNC_WRITER;
+    private static boolean IS_SHUTDOWN_HOOK_ADDED;
+    // 日志的输出位置
+    private static volatile LogSink SINK = defaultSink();
+    // 结构化二进制输出，没有开启时为 null
+    private static volatile BinaryLogWriter STRUCTURED_WRITER;
+    // 类名/包名或 Tag -> 单独设置的日志级别
+    private static final ConcurrentHashMap<String, Integer> LEVEL_OVERRIDES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, NamedLogger> CLASS_LOGGERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, NamedLogger> TAG_LOGGERS = new ConcurrentHashMap<>();
+
+    /**
+     * Log日子的 Tag，默认 RxJava2Operator
+     */
+    private static String TAG = "RxJava2Operator";
+    /**
+     * 是否打印全部类名(类的全路径名)，默认false
+     */
+    private static boolean IS_FULL_CLASSNAME;
+    /**
+     * 需要打印的日志级别，默认 VERBOSE(打印全部日志)<br/>
+     * 如果不需要打印日志，将此值设置为大于 ASSERT(7) (如：LOG_LEVEL = 8)的值即可
+     */
+    private static volatile int LOG_LEVEL = VERBOSE;
+    /**
+     * 是否打印调用位置(类名.方法名(行数))，默认false，见 {@link #setCallSiteEnabled(boolean)}
+     */
+    private static volatile boolean IS_CALL_SITE_ENABLED;
+
+    /**
+     * 设置是否打印类的全路径名
+     *
+     * @param isFullClassName true：打印类的全路径名
+     */
+    public static void isFullClassName(boolean isFullClassName) {
+        Logger.IS_FULL_CLASSNAME = isFullClassName;
+        CALL_SITE_CACHE.clear();
+    }
+
+    /**
+     * 设置Log开始打印的级别，默认 {@link #VERBOSE}(全部打印)<br/>
+     * 如果不需要打印日志，将此值设置为大于 {@link #ASSERT}(7) (如：setLogLevel(8))的值即可
+     *
+     * @param level 设置打印级别
+     */
+    public static synchronized void setLogLevel(int level) {
+        Logger.LOG_LEVEL = level;
+        refreshLevels();
+    }
+
+    /**
+     * 单独设置某个类、包或 Tag 的日志级别，运行时可以随时修改。<br/>
+     * 按 "." 分级查找：com.a.b.C 依次查找 com.a.b.C、com.a.b、com.a、com，都没有设置时使用 {@link #setLogLevel(int)} 的级别。
+     * 只对 {@link #forClass(Class)}、{@link #forTag(String)} 获取的 {@link NamedLogger} 有效
+     *
+     * @param name  类的全名、包名或 Tag
+     * @param level 日志级别
+     */
+    public static synchronized void setLevel(String name, int level) {
+        LEVEL_OVERRIDES.put(name, level);
+        refreshLevels();
+    }
+
+    /**
+     * 清除 {@link #setLevel(String, int)} 单独设置的日志级别
+     *
+     * @param name
+     */
+    public static synchronized void clearLevel(String name) {
+        LEVEL_OVERRIDES.remove(name);
+        refreshLevels();
+    }
+
+    /**
+     * 是否打印这个级别的日志(静态方法使用的全局级别)
+     *
+     * @param level
+     * @return
+     */
+    public static boolean isEnabled(int level) {
+        return level >= LOG_LEVEL;
+    }
+
+    /**
+     * 获取某个类的日志对象，日志级别按类名和包名查找。一般保存为静态变量：
+     * <code>private static final NamedLogger LOG = Logger.forClass(FilterOperator.class);</code>
+     *
+     * @param clazz
+     * @return 同一个类返回同一个对象
+     */
+    public static NamedLogger forClass(Class<?> clazz) {
+        NamedLogger logger = CLASS_LOGGERS.get(clazz.getName());
+        if (logger == null) {
+            synchronized (Logger.class) {
+                logger = CLASS_LOGGERS.get(clazz.getName());
+                if (logger == null) {
+                    logger = new NamedLogger(clazz.getName(), null, clazz.getSimpleName() + ": ");
+                    logger.level = resolveLevel(logger.getName());
+                    CLASS_LOGGERS.put(logger.getName(), logger);
+                }
+            }
+        }
+        return logger;
+    }
+
+    /**
+     * 获取使用指定 Tag 打印的日志对象，日志级别按 Tag 查找
+     *
+     * @param tag
+     * @return 同一个 Tag 返回同一个对象
+     */
+    public static NamedLogger forTag(String tag) {
+        NamedLogger logger = TAG_LOGGERS.get(tag);
+        if (logger == null) {
+            synchronized (Logger.class) {
+                logger = TAG_LOGGERS.get(tag);
+                if (logger == null) {
+                    logger = new NamedLogger(tag, tag, null);
+                    logger.level = resolveLevel(tag);
+                    TAG_LOGGERS.put(tag, logger);
+                }
+            }
+        }
+        return logger;
+    }
+
+    /**
+     * 设置Log的Tag，默认 "MyLogger"
+     *
+     * @param tag
+     */
+    public static void setAppTAG(String tag) {
+        Logger.TAG = tag;
+    }
+
+    /**
+     * 设置是否打印调用位置，默认 false。<br/>
+     * 打开后每条(级别开启的)日志都要调用一次 {@code new Throwable().getStackTrace()} 遍历调用栈并创建所有栈帧对象，
+     * 创建的临时对象和耗时通常比格式化日志本身还多，缓存只能省去拼接字符串的开销；适合调试时打开。<br/>
+     * 关闭时不遍历调用栈：{@link #forClass(Class)} 获取的 {@link NamedLogger} 用类名作为前缀，静态方法不打印位置
+     *
+     * @param enabled true：打印调用位置
+     */
+    public static void setCallSiteEnabled(boolean enabled) {
+        Logger.IS_CALL_SITE_ENABLED = enabled;
+    }
+
+    /**
+     * 设置日志的输出位置，一般在启动时设置
+     *
+     * @param sink 如 {@link FileLogSink}、{@link MemoryLogSink}
+     */
+    public static synchronized void setSink(LogSink sink) {
+        if (sink == null) {
+            throw new NullPointerException("sink is null");
+        }
+        LogSink old = SINK;
+        // 异步模式中还没有写出的日志仍然写到原来的位置
+        flush();
+        SINK = sink;
+        old.flush();
+        addShutdownHook();
+    }
+
+    /**
+     * 创建一个限流打印日志的对象，每秒最多打印 perSecond 条，一般保存为静态变量，每个打印位置使用一个
+     *
+     * @param perSecond
+     * @return
+     * @see LogLimiter
+     */
+    public static LogLimiter rateLimit(int perSecond) {
+        return LogLimiter.rateLimit(perSecond, null);
+    }
+
+    /**
+     * 创建一个采样打印日志的对象，每 n 条打印 1 条
+     *
+     * @param n
+     * @return
+     * @see LogLimiter
+     */
+    public static LogLimiter everyNth(int n) {
+        return LogLimiter.everyNth(n, null);
+    }
+
+    /**
+     * 创建一个按概率打印日志的对象
+     *
+     * @param probability (0, 1]
+     * @return
+     * @see LogLimiter
+     */
+    public static LogLimiter sample(double probability) {
+        return LogLimiter.sample(probability, null);
+    }
+
+    /**
+     * 开启结构化二进制输出：日志不再格式化为字符串，也不再输出到 {@link LogSink}，
+     * 而是把模板和参数直接写入 writer，之后用 {@link BinaryLogDecoder} 还原为文本
+     *
+     * @param writer 为 null 时关闭结构化输出
+     */
+    public static void setStructuredWriter(BinaryLogWriter writer) {
+        STRUCTURED_WRITER = writer;
+    }
+
+    /**
+     * 开启异步模式：日志先放入容量为 capacity 的环形缓冲区，由后台线程格式化并写出，打印日志的线程不会被写日志阻塞。<br/>
+     * 进程正常退出时会写出缓冲区中剩余的日志；Android 中进程可能被直接杀死，需要时调用 {@link #flush()}
+     *
+     * @param capacity 缓冲区容量，向上取整为 2 的幂
+     * @param strategy 缓冲区满了之后的处理策略
+     */
+    public static void startAsync(int capacity, LogOverflowStrategy strategy) {
+        startAsync(capacity, strategy, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * 开启异步模式
+     *
+     * @param capacity   缓冲区容量，向上取整为 2 的幂
+     * @param strategy   缓冲区满了之后的处理策略
+     * @param sampleRate {@link LogOverflowStrategy#SAMPLE} 时每 sampleRate 条日志保留 1 条
+     * @see #startAsync(int, LogOverflowStrategy)
+     */
+    public static synchronized void startAsync(int capacity, LogOverflowStrategy strategy, int sampleRate) {
+        AsyncLogWriter writer = new AsyncLogWriter(capacity, strategy, sampleRate);
+        stopAsync();
+        writer.start();
+        ASYNC_WRITER = writer;
+        addShutdownHook();
+    }
+
+    /**
+     * 写出缓冲区中剩余的日志，回到同步模式
+     */
+    public static synchronized void stopAsync() {
+        AsyncLogWriter writer = ASYNC_WRITER;
+        if (writer != null) {
+            ASYNC_WRITER = null;
+            writer.stop();
+        }
+    }
+
+    /**
+     * 写出之前打印的日志：异步模式时等待后台线程写出，然后写出 {@link LogSink} 中缓存的日志，结构化输出同步到磁盘
+     */
+    public static void flush() {
+        AsyncLogWriter writer = ASYNC_WRITER;
+        if (writer != null) {
+            writer.flush();
+        }
+        SINK.flush();
+        BinaryLogWriter structured = STRUCTURED_WRITER;
+        if (structured != null) {
+            structured.flush();
+        }
+    }
+
+    /**
+     * 异步模式中因为缓冲区满了而丢弃的日志条数
+     *
+     * @return 同步模式时返回 0
+     */
+    public static long getDroppedCount() {
+        AsyncLogWriter writer = ASYNC_WRITER;
+        return writer == null ? 0 : writer.getDroppedCount();
+    }
+
+    public static void v(String msg) {
+        if (LOG_LEVEL <= VERBOSE) {
+            log(null, null, VERBOSE, msg, 0, null, null, null);
+        }
+    }
+
+    /**
+     * 参数化日志，模板中的 {} 依次替换为参数，级别没有开启时不会格式化
+     *
+     * @param template 如 "x={}"
+     * @param arg
+     */
+    public static void v(String template, Object arg) {
+        if (LOG_LEVEL <= VERBOSE) {
+            log(null, null, VERBOSE, template, 1, arg, null, null);
+        }
+    }
+
+    public static void v(String template, Object arg1, Object arg2) {
+        if (LOG_LEVEL <= VERBOSE) {
+            log(null, null, VERBOSE, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void v(String template, Object... args) {
+        if (LOG_LEVEL <= VERBOSE) {
+            log(null, null, VERBOSE, template, argCount(args), null, null, args);
+        }
+    }
+
+    public static void d(String msg) {
+        if (LOG_LEVEL <= DEBUG) {
+            log(null, null, DEBUG, msg, 0, null, null, null);
+        }
+    }
+
+    public static void d(String template, Object arg) {
+        if (LOG_LEVEL <= DEBUG) {
+            log(null, null, DEBUG, template, 1, arg, null, null);
+        }
+    }
+
+    public static void d(String template, Object arg1, Object arg2) {
+        if (LOG_LEVEL <= DEBUG) {
+            log(null, null, DEBUG, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void d(String template, Object... args) {
+        if (LOG_LEVEL <= DEBUG) {
+            log(null, null, DEBUG, template, argCount(args), null, null, args);
+        }
+    }
+
+    public static void i(String msg) {
+        if (LOG_LEVEL <= INFO) {
+            log(null, null, INFO, msg, 0, null, null, null);
+        }
+    }
+
+    public static void i(String template, Object arg) {
+        if (LOG_LEVEL <= INFO) {
+            log(null, null, INFO, template, 1, arg, null, null);
+        }
+    }
+
+    public static void i(String template, Object arg1, Object arg2) {
+        if (LOG_LEVEL <= INFO) {
+            log(null, null, INFO, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void i(String template, Object... args) {
+        if (LOG_LEVEL <= INFO) {
+            log(null, null, INFO, template, argCount(args), null, null, args);
+        }
+    }
+
+    public static void w(String msg) {
+        if (LOG_LEVEL <= WARN) {
+            log(null, null, WARN, msg, 0, null, null, null);
+        }
+    }
+
+    public static void w(String template, Object arg) {
+        if (LOG_LEVEL <= WARN) {
+            log(null, null, WARN, template, 1, arg, null, null);
+        }
+    }
+
+    public static void w(String template, Object arg1, Object arg2) {
+        if (LOG_LEVEL <= WARN) {
+            log(null, null, WARN, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void w(String template, Object... args) {
+        if (LOG_LEVEL <= WARN) {
+            log(null, null, WARN, template, argCount(args), null, null, args);
+        }
+    }
+
+    public static void e(String msg) {
+        if (LOG_LEVEL <= ERROR) {
+            log(null, null, ERROR, msg, 0, null, null, null);
+        }
+    }
+
+    public static void e(String template, Object arg) {
+        if (LOG_LEVEL <= ERROR) {
+            log(null, null, ERROR, template, 1, arg, null, null);
+        }
+    }
+
+    public static void e(String template, Object arg1, Object arg2) {
+        if (LOG_LEVEL <= ERROR) {
+            log(null, null, ERROR, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void e(String template, Object... args) {
+        if (LOG_LEVEL <= ERROR) {
+            log(null, null, ERROR, template, argCount(args), null, null, args);
+        }
+    }
+
+    /**
+     * 可变参数的个数。<code>Logger.i("x={}", null)</code> 时 args 为 null，当作一个 null 参数(此时 arg1 为 null)
+     */
+    static int argCount(Object[] args) {
+        return args == null ? 1 : args.length;
+    }
+
+    /**
+     * 格式化并打印一条日志，参数个数不超过 2 个时使用 arg1/arg2，否则使用 args
+     *
+     * @param tag    为 null 时使用 {@link #setAppTAG(String)} 设置的 Tag
+     * @param prefix 不打印调用位置时代替调用位置的前缀，可以为 null
+     */
+    static void log(String tag, String prefix, int level, String template,
+                    int argCount, Object arg1, Object arg2, Object[] args) {
+        if (tag == null) {
+            tag = TAG;
+        }
+        // 调用位置只能在打印日志的线程中获取
+        String title = IS_CALL_SITE_ENABLED ? getLogTitle() : prefix;
+        BinaryLogWriter structured = STRUCTURED_WRITER;
+        if (structured != null) {
+            structured.write(level, tag, title, template, argCount, arg1, arg2, args);
+            return;
+        }
+        AsyncLogWriter writer = ASYNC_WRITER;
+        if (writer != null && writer.publish(level, tag, title, template, argCount, arg1, arg2, args)) {
+            return;
+        }
+        StringBuilder builder = BUFFER.get();
+        write(builder, level, tag, title, template, argCount, arg1, arg2, args);
+        if (builder.capacity() > MAX_BUFFER_SIZE) {
+            BUFFER.remove();
+        }
+    }
+
+    /**
+     * 使用 builder 格式化并写出一条日志，同步模式和异步模式的后台线程共用
+     */
+    static void write(StringBuilder builder, int level, String tag, String title, String template,
+                      int argCount, Object arg1, Object arg2, Object[] args) {
+        builder.setLength(0);
+        if (title != null) {
+            builder.append(title);
+        }
+        format(builder, template, argCount, arg1, arg2, args);
+        SINK.write(level, tag, builder.toString());
+    }
+
+    /**
+     * 日志级别的缩写，如 INFO 为 'I'
+     *
+     * @param level
+     * @return
+     */
+    static char levelChar(int level) {
+        switch (level) {
+            case VERBOSE:
+                return 'V';
+            case DEBUG:
+                return 'D';
+            case INFO:
+                return 'I';
+            case WARN:
+                return 'W';
+            case ERROR:
+                return 'E';
+            case ASSERT:
+                return 'A';
+            default:
+                return '?';
+        }
+    }
+
+    /**
+     * 按 "." 分级查找单独设置的日志级别
+     */
+    private static int resolveLevel(String name) {
+        String current = name;
+        for (; ; ) {
+            Integer level = LEVEL_OVERRIDES.get(current);
+            if (level != null) {
+                return level;
+            }
+            int dot = current.lastIndexOf('.');
+            if (dot < 0) {
+                return LOG_LEVEL;
+            }
+            current = current.substring(0, dot);
+        }
+    }
+
+    /**
+     * 日志级别改变后，重新计算所有 NamedLogger 的级别
+     */
+    private static void refreshLevels() {
+        for (NamedLogger logger : CLASS_LOGGERS.values()) {
+            logger.level = resolveLevel(logger.getName());
+        }
+        for (NamedLogger logger : TAG_LOGGERS.values()) {
+            logger.level = resolveLevel(logger.getName());
+        }
+    }
+
+    /**
+     * 进程正常退出时写出剩余的日志
+     */
+    private static synchronized void addShutdownHook() {
+        if (!IS_SHUTDOWN_HOOK_ADDED) {
+            IS_SHUTDOWN_HOOK_ADDED = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    stopAsync();
+                    SINK.flush();
+                }
+            }, "Logger-shutdown"));
+        }
+    }
+
+    /**
+     * 在 Android 中运行时输出到 app 模块中的 {@code AndroidLogSink}，否则输出到标准输出。<br/>
+     * 通过反射创建 AndroidLogSink，rxoperator-core 不依赖 Android，在 JVM 中也不会加载 {@code android.util.Log}
+     */
+    private static LogSink defaultSink() {
+        if ("Dalvik".equals(System.getProperty("java.vm.name"))) {
+            try {
+                return (LogSink) Class.forName("com.renj.rxjavaoperator.AndroidLogSink").newInstance();
+            } catch (Exception ignored) {
+                // 没有 AndroidLogSink 时使用标准输出
+            }
+        }
+        return new StdoutLogSink();
+    }
+
+    /**
+     * 将模板中的 {} 依次替换为参数，多余的参数忽略，缺少的参数保留 {}
+     *
+     * @param builder
+     * @param template
+     * @param argCount
+     * @param arg1
+     * @param arg2
+     * @param args     参数个数超过 2 个时使用
+     */
+    static void format(StringBuilder builder, String template, int argCount, Object arg1, Object arg2, Object[] args) {
+        int from = 0;
+        for (int i = 0; i < argCount; i++) {
+            int index = template.indexOf(PLACEHOLDER, from);
+            if (index < 0) {
+                break;
+            }
+            builder.append(template, from, index);
+            builder.append(args != null ? args[i] : (i == 0 ? arg1 : arg2));
+            from = index + PLACEHOLDER.length();
+        }
+        builder.append(template, from, template.length());
+    }
+
+    /**
+     * 返回类名(根据是否设置了打印全类名返回响应的值)，方法名和日子打印所在行数
+     *
+     * @return (全)类名.方法名(所在行数):
+     */
+    private static String getLogTitle() {
+        StackTraceElement elm = callerFrame();
+        if (elm == null) {
+            return "";
+        }
+        String title = CALL_SITE_CACHE.get(elm);
+        if (title == null) {
+            String className = elm.getClassName();
+            if (!IS_FULL_CLASSNAME) {
+                int dot = className.lastIndexOf('.');
+                if (dot != -1) {
+                    className = className.substring(dot + 1);
+                }
+            }
+            title = className + "." + elm.getMethodName() + "(" + elm.getLineNumber() + ")" + ": ";
+            if (CALL_SITE_CACHE.size() < MAX_CALL_SITE_COUNT) {
+                CALL_SITE_CACHE.put(elm, title);
+            }
+        }
+        return title;
+    }
+
+    /**
+     * 调用栈中第一个不是 Logger(和 NamedLogger、LogLimiter) 的栈帧，即打印日志的位置
+     */
+    private static StackTraceElement callerFrame() {
+        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+        String loggerName = Logger.class.getName();
+        String namedLoggerName = NamedLogger.class.getName();
+        String limiterName = LogLimiter.class.getName();
+        for (StackTraceElement element : stackTrace) {
+            String className = element.getClassName();
+            if (!loggerName.equals(className) && !namedLoggerName.equals(className) && !limiterName.equals(className)) {
+                return element;
+            }
+        }
+        return null;
+    }
+}
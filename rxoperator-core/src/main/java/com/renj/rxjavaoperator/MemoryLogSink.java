@@ -0,0 +1,63 @@
+package com.renj.rxjavaoperator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   19:50
+ * <p>
+ * 描述：保存在内存中，只保留最近的 capacity 条，用于测试或者在界面上显示最近的日志
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public class MemoryLogSink implements LogSink {
+    private final int mCapacity;
+    private final ArrayDeque<String> mLines;
+
+    public MemoryLogSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity > 0 required but it was " + capacity);
+        }
+        this.mCapacity = capacity;
+        this.mLines = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public void write(int level, String tag, String message) {
+        String line = Logger.levelChar(level) + "/" + tag + ": " + message;
+        synchronized (mLines) {
+            if (mLines.size() == mCapacity) {
+                mLines.pollFirst();
+            }
+            mLines.addLast(line);
+        }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * 获取保存的日志，格式为 "I/tag: message"，按写出顺序
+     *
+     * @return
+     */
+    public List<String> getLines() {
+        synchronized (mLines) {
+            return new ArrayList<>(mLines);
+        }
+    }
+
+    public void clear() {
+        synchronized (mLines) {
+            mLines.clear();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.renj.rxjavaoperator;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   20:20
+ * <p>
+ * 描述：按类或 Tag 获取的日志对象，通过 {@link Logger#forClass(Class)}、{@link Logger#forTag(String)} 获取。<br/>
+ * 日志级别在设置改变时计算好保存在字段中，{@link #isEnabled(int)} 和每个打印方法只需要读取这个字段，
+ * 所以在热点代码中保留 verbose 日志几乎没有开销。
+ * <pre>
+ *  <code>private static final NamedLogger LOG = Logger.forClass(FilterOperator.class);</code>
+ *  <code>LOG.v("filter operator result => {}", integer);</code>
+ * </pre>
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：增加限流/采样打印 {@link #rateLimit(int)}、{@link #everyNth(int)}、{@link #sample(double)}
+ * <p>
+ * ======================================================================
+ */
+public final class NamedLogger {
+    private final String mName;
+    // 为 null 时使用 Logger 全局的 Tag
+    private final String mTag;
+    // 不打印调用位置时使用的前缀
+    private final String mPrefix;
+    // 计算好的日志级别，由 Logger 在设置改变时更新
+    volatile int level;
+
+    NamedLogger(String name, String tag, String prefix) {
+        this.mName = name;
+        this.mTag = tag;
+        this.mPrefix = prefix;
+    }
+
+    /**
+     * 类的全名或 Tag
+     *
+     * @return
+     */
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * 是否打印这个级别的日志
+     *
+     * @param level
+     * @return
+     */
+    public boolean isEnabled(int level) {
+        return level >= this.level;
+    }
+
+    /**
+     * 使用这个日志对象的级别和 Tag，每秒最多打印 perSecond 条
+     *
+     * @param perSecond
+     * @return
+     * @see Logger#rateLimit(int)
+     */
+    public LogLimiter rateLimit(int perSecond) {
+        return LogLimiter.rateLimit(perSecond, this);
+    }
+
+    /**
+     * 使用这个日志对象的级别和 Tag，每 n 条打印 1 条
+     *
+     * @param n
+     * @return
+     * @see Logger#everyNth(int)
+     */
+    public LogLimiter everyNth(int n) {
+        return LogLimiter.everyNth(n, this);
+    }
+
+    /**
+     * 使用这个日志对象的级别和 Tag，按概率打印
+     *
+     * @param probability (0, 1]
+     * @return
+     * @see Logger#sample(double)
+     */
+    public LogLimiter sample(double probability) {
+        return LogLimiter.sample(probability, this);
+    }
+
+    String getTag() {
+        return mTag;
+    }
+
+    String getPrefix() {
+        return mPrefix;
+    }
+
+    public void v(String msg) {
+        if (level <= Logger.VERBOSE) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, msg, 0, null, null, null);
+        }
+    }
+
+    public void v(String template, Object arg) {
+        if (level <= Logger.VERBOSE) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, template, 1, arg, null, null);
+        }
+    }
+
+    public void v(String template, Object arg1, Object arg2) {
+        if (level <= Logger.VERBOSE) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void v(String template, Object... args) {
+        if (level <= Logger.VERBOSE) {
+            Logger.log(mTag, mPrefix, Logger.VERBOSE, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void d(String msg) {
+        if (level <= Logger.DEBUG) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, msg, 0, null, null, null);
+        }
+    }
+
+    public void d(String template, Object arg) {
+        if (level <= Logger.DEBUG) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, template, 1, arg, null, null);
+        }
+    }
+
+    public void d(String template, Object arg1, Object arg2) {
+        if (level <= Logger.DEBUG) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void d(String template, Object... args) {
+        if (level <= Logger.DEBUG) {
+            Logger.log(mTag, mPrefix, Logger.DEBUG, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void i(String msg) {
+        if (level <= Logger.INFO) {
+            Logger.log(mTag, mPrefix, Logger.INFO, msg, 0, null, null, null);
+        }
+    }
+
+    public void i(String template, Object arg) {
+        if (level <= Logger.INFO) {
+            Logger.log(mTag, mPrefix, Logger.INFO, template, 1, arg, null, null);
+        }
+    }
+
+    public void i(String template, Object arg1, Object arg2) {
+        if (level <= Logger.INFO) {
+            Logger.log(mTag, mPrefix, Logger.INFO, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void i(String template, Object... args) {
+        if (level <= Logger.INFO) {
+            Logger.log(mTag, mPrefix, Logger.INFO, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void w(String msg) {
+        if (level <= Logger.WARN) {
+            Logger.log(mTag, mPrefix, Logger.WARN, msg, 0, null, null, null);
+        }
+    }
+
+    public void w(String template, Object arg) {
+        if (level <= Logger.WARN) {
+            Logger.log(mTag, mPrefix, Logger.WARN, template, 1, arg, null, null);
+        }
+    }
+
+    public void w(String template, Object arg1, Object arg2) {
+        if (level <= Logger.WARN) {
+            Logger.log(mTag, mPrefix, Logger.WARN, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void w(String template, Object... args) {
+        if (level <= Logger.WARN) {
+            Logger.log(mTag, mPrefix, Logger.WARN, template, Logger.argCount(args), null, null, args);
+        }
+    }
+
+    public void e(String msg) {
+        if (level <= Logger.ERROR) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, msg, 0, null, null, null);
+        }
+    }
+
+    public void e(String template, Object arg) {
+        if (level <= Logger.ERROR) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, template, 1, arg, null, null);
+        }
+    }
+
+    public void e(String template, Object arg1, Object arg2) {
+        if (level <= Logger.ERROR) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public void e(String template, Object... args) {
+        if (level <= Logger.ERROR) {
+            Logger.log(mTag, mPrefix, Logger.ERROR, template, Logger.argCount(args), null, null, args);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.renj.rxjavaoperator;
+
+import java.io.PrintStream;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   19:45
+ * <p>
+ * 描述：输出到标准输出，格式和 logcat 相同："I/tag: message"。在 JVM 中运行时的默认输出位置
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public class StdoutLogSink implements LogSink {
+    private final PrintStream mOut;
+
+    public StdoutLogSink() {
+        this(System.out);
+    }
+
+    public StdoutLogSink(PrintStream out) {
+        this.mOut = out;
+    }
+
+    @Override
+    public void write(int level, String tag, String message) {
+        StringBuilder builder = new StringBuilder(tag.length() + message.length() + 4);
+        builder.append(Logger.levelChar(level)).append('/').append(tag).append(": ").append(message);
+        mOut.println(builder);
+    }
+
+    @Override
+    public void flush() {
+        mOut.flush();
+    }
+}
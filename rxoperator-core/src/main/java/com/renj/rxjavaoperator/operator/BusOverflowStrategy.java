@@ -0,0 +1,38 @@
+package com.renj.rxjavaoperator.operator;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   11:05
+ * <p>
+ * 描述：{@link RxBus#tFlowable(Class, BusOverflowStrategy, int)} 订阅者的缓冲区满了之后的处理策略。<br/>
+ * DROP_OLDEST、DROP_LATEST 和 RxJava 的 {@code BackpressureOverflowStrategy} 含义相同：丢弃的都是<b>缓冲区中</b>的事件，
+ * 新来的事件总是放入缓冲区
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：说明 DROP_LATEST 丢弃的是缓冲区中最新的事件，不是新来的事件<br/>
+ * ======================================================================
+ */
+public enum BusOverflowStrategy {
+    /**
+     * 缓冲区满了之后丢弃缓冲区中最早的事件，保留新事件
+     */
+    DROP_OLDEST,
+    /**
+     * 缓冲区满了之后丢弃<b>缓冲区中</b>最新的一个事件(上一个放入缓冲区的事件)，再放入新事件，
+     * 和 {@code BackpressureOverflowStrategy.DROP_LATEST} 相同。<br/>
+     * 注意不是丢弃新来的事件：缓冲区为 4、订阅者不请求数据时发送 1 ~ 10，之后收到的是 1、2、3、10
+     */
+    DROP_LATEST,
+    /**
+     * 有界缓冲，缓冲区满了之后回调 {@code onError(MissingBackpressureException)} 并取消订阅
+     */
+    BUFFER,
+    /**
+     * 只保留最新的一个事件，订阅者处理完成后收到的总是最新的事件
+     */
+    LATEST
+}
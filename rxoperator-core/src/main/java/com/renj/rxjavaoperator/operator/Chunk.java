@@ -0,0 +1,64 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-19   01:00
+ * <p>
+ * 描述：{@link ChunkedObservable} 发射的一批数据，基于数组，[offset, offset + size) 范围内的数据有效。<br/>
+ * <b>同一次订阅中会重复使用同一个 Chunk 对象</b>，只能在 onNext 中读取；需要保存或者交给其他线程时
+ * 调用 {@link #toList()} 复制一份。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public final class Chunk<T> {
+    Object[] items;
+    int offset;
+    int size;
+
+    Chunk(Object[] items) {
+        this.items = items;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) items[offset + index];
+    }
+
+    /**
+     * 复制为新的 List，和 {@code buffer()} 发射的数据相同
+     *
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            list.add((T) items[i]);
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -0,0 +1,515 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-19   01:05
+ * <p>
+ * 描述：按批发射集合/数组中的数据。<br/>
+ * 几十万个数据逐个发射时，每个数据逐级调用 onNext 的开销占了大部分时间；这里每次发射一个 {@link Chunk}(最多 chunkSize 个数据)，
+ * {@link #map(Function)}、{@link #filter(Predicate)} 在一个循环中处理整批数据。
+ * 每一级的 Chunk 在订阅时创建，之后重复使用，数组数据源直接使用原数组，不复制。<br/>
+ * 结束按批处理时：
+ * <ul>
+ * <li>{@link #toObservable()}：发射重复使用的 Chunk，只能在 onNext 中读取；</li>
+ * <li>{@link #buffer(int)}：和 {@code Observable.buffer(count)} 相同，发射新的 List(filter 之后重新按 count 个打包)；</li>
+ * <li>{@link #flatten()}：重新逐个发射。</li>
+ * </ul>
+ * <p>
+ * <code>ChunkedObservable.fromIterableChunked(list, 1024).map(f).filter(p).buffer(100)</code>
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：map、filter 在一批数据的中间出错时，出错之前的数据先往下传<br/>
+ * ======================================================================
+ */
+public final class ChunkedObservable<T> {
+    private static final int SOURCE = 0;
+    private static final int MAP = 1;
+    private static final int FILTER = 2;
+
+    // Iterable 或者数组
+    private final Object mSource;
+    private final int mChunkSize;
+    // 上一级，数据源为 null
+    private final ChunkedObservable<?> mParent;
+    private final int mKind;
+    // MAP 时是 Function，FILTER 时是 Predicate
+    private final Object mFunction;
+
+    private ChunkedObservable(Object source, int chunkSize, ChunkedObservable<?> parent, int kind, Object function) {
+        this.mSource = source;
+        this.mChunkSize = chunkSize;
+        this.mParent = parent;
+        this.mKind = kind;
+        this.mFunction = function;
+    }
+
+    /**
+     * 按批发射集合中的数据，每批最多 chunkSize 个
+     *
+     * @param iterable
+     * @param chunkSize
+     * @param <T>
+     * @return
+     */
+    public static <T> ChunkedObservable<T> fromIterableChunked(Iterable<? extends T> iterable, int chunkSize) {
+        if (iterable == null) {
+            throw new NullPointerException("iterable is null");
+        }
+        return new ChunkedObservable<>(iterable, checkChunkSize(chunkSize), null, SOURCE, null);
+    }
+
+    /**
+     * 按批发射数组中的数据，每批最多 chunkSize 个，直接使用原数组，不复制
+     *
+     * @param array
+     * @param chunkSize
+     * @param <T>
+     * @return
+     */
+    public static <T> ChunkedObservable<T> fromArrayChunked(T[] array, int chunkSize) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        return new ChunkedObservable<>(array, checkChunkSize(chunkSize), null, SOURCE, null);
+    }
+
+    public <R> ChunkedObservable<R> map(Function<? super T, ? extends R> mapper) {
+        if (mapper == null) {
+            throw new NullPointerException("mapper is null");
+        }
+        return new ChunkedObservable<>(mSource, mChunkSize, this, MAP, mapper);
+    }
+
+    public ChunkedObservable<T> filter(Predicate<? super T> predicate) {
+        if (predicate == null) {
+            throw new NullPointerException("predicate is null");
+        }
+        return new ChunkedObservable<>(mSource, mChunkSize, this, FILTER, predicate);
+    }
+
+    /**
+     * 发射每一批数据，Chunk 会被重复使用。filter 之后的 Chunk 可能少于 chunkSize 个，全部被过滤掉的批次不发射
+     *
+     * @return
+     */
+    public Observable<Chunk<T>> toObservable() {
+        return new Observable<Chunk<T>>() {
+            @Override
+            protected void subscribeActual(Observer<? super Chunk<T>> observer) {
+                ChunkTerminal<T> terminal = new ChunkTerminal<>(observer);
+                observer.onSubscribe(terminal);
+                run(terminal);
+            }
+        };
+    }
+
+    /**
+     * 和 {@code Observable.fromIterable(iterable).map(...).filter(...).buffer(count)} 结果相同：
+     * 每次发射一个新的 List，除最后一个外都是 count 个数据；
+     * map、filter 在一批数据的中间出错时，出错之前的数据照常打包，已经满 count 个的 List 先发射，再回调 onError
+     *
+     * @param count
+     * @return
+     */
+    public Observable<List<T>> buffer(final int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
+        return new Observable<List<T>>() {
+            @Override
+            protected void subscribeActual(Observer<? super List<T>> observer) {
+                BufferTerminal<T> terminal = new BufferTerminal<>(observer, count);
+                observer.onSubscribe(terminal);
+                run(terminal);
+            }
+        };
+    }
+
+    /**
+     * 和 {@code Observable.buffer(count, skip)} 相同，skip 和 count 不同时在 {@link #flatten()} 之后使用普通的 buffer
+     *
+     * @param count
+     * @param skip
+     * @return
+     */
+    public Observable<List<T>> buffer(int count, int skip) {
+        return count == skip ? buffer(count) : flatten().buffer(count, skip);
+    }
+
+    /**
+     * 重新逐个发射，之后可以使用其他操作符
+     *
+     * @return
+     */
+    public Observable<T> flatten() {
+        return new Observable<T>() {
+            @Override
+            protected void subscribeActual(Observer<? super T> observer) {
+                FlattenTerminal<T> terminal = new FlattenTerminal<>(observer);
+                observer.onSubscribe(terminal);
+                run(terminal);
+            }
+        };
+    }
+
+    /**
+     * 从最后一级往前创建处理链，数据源每次填充一批数据交给第一级
+     */
+    private void run(Terminal terminal) {
+        Sink head = terminal;
+        ChunkedObservable<?> node = this;
+        for (; node.mKind != SOURCE; node = node.mParent) {
+            head = node.wrap(head);
+        }
+        try {
+            if (mSource instanceof Object[]) {
+                Object[] array = (Object[]) mSource;
+                Chunk<Object> chunk = new Chunk<>(array);
+                for (int offset = 0; offset < array.length && !terminal.isDisposed(); offset += mChunkSize) {
+                    int end = Math.min(offset + mChunkSize, array.length);
+                    int nullIndex = indexOfNull(array, offset, end);
+                    chunk.offset = offset;
+                    chunk.size = (nullIndex < 0 ? end : nullIndex) - offset;
+                    // 和 Observable.fromArray() 相同，null 之前的数据先发射，再回调 onError
+                    if (chunk.size != 0) {
+                        head.accept(chunk);
+                    }
+                    if (nullIndex >= 0) {
+                        throw new NullPointerException("The element at index " + nullIndex + " is null");
+                    }
+                }
+            } else {
+                Iterator<?> iterator = ((Iterable<?>) mSource).iterator();
+                Chunk<Object> chunk = new Chunk<>(new Object[mChunkSize]);
+                while (!terminal.isDisposed()) {
+                    int size = 0;
+                    while (size < mChunkSize && iterator.hasNext()) {
+                        Object item = iterator.next();
+                        if (item == null) {
+                            // 已经取出的数据先发射
+                            if (size != 0) {
+                                chunk.size = size;
+                                head.accept(chunk);
+                            }
+                            throw new NullPointerException("The iterator returned a null value");
+                        }
+                        chunk.items[size++] = item;
+                    }
+                    if (size == 0) {
+                        break;
+                    }
+                    chunk.size = size;
+                    head.accept(chunk);
+                    if (size < mChunkSize) {
+                        break;
+                    }
+                }
+            }
+        } catch (ObserverException e) {
+            // 下游 Observer 自己抛出的异常不能再交给它的 onError，和 Observable.fromIterable() 一样向上抛出
+            terminal.dispose();
+            throw e.unwrap();
+        } catch (Throwable e) {
+            Exceptions.throwIfFatal(e);
+            terminal.error(e);
+            return;
+        }
+        terminal.complete();
+    }
+
+    private Sink wrap(Sink next) {
+        if (mKind == MAP) {
+            return new MapSink(next, (Function<?, ?>) mFunction, mChunkSize);
+        }
+        return new FilterSink(next, (Predicate<?>) mFunction, mChunkSize);
+    }
+
+    /**
+     * @return [start, end) 中第一个 null 的下标，没有时返回 -1
+     */
+    private static int indexOfNull(Object[] array, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (array[i] == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize > 0 required but it was " + chunkSize);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * 处理链中的一级，每次处理一批数据
+     */
+    abstract static class Sink {
+        abstract void accept(Chunk<Object> chunk) throws Exception;
+    }
+
+    static final class MapSink extends Sink {
+        private final Sink next;
+        private final Function<Object, Object> mapper;
+        private final Chunk<Object> out;
+
+        @SuppressWarnings("unchecked")
+        MapSink(Sink next, Function<?, ?> mapper, int chunkSize) {
+            this.next = next;
+            this.mapper = (Function<Object, Object>) mapper;
+            this.out = new Chunk<>(new Object[chunkSize]);
+        }
+
+        @Override
+        void accept(Chunk<Object> chunk) throws Exception {
+            Object[] in = chunk.items;
+            Object[] items = out.items;
+            for (int i = 0, j = chunk.offset, size = chunk.size; i < size; i++, j++) {
+                Object result;
+                try {
+                    result = mapper.apply(in[j]);
+                    if (result == null) {
+                        throw new NullPointerException("The mapper function returned a null value.");
+                    }
+                } catch (Exception e) {
+                    // 和 Observable.map() 相同，出错之前的数据先往下传
+                    if (i != 0) {
+                        out.size = i;
+                        next.accept(out);
+                    }
+                    throw e;
+                }
+                items[i] = result;
+            }
+            out.size = chunk.size;
+            next.accept(out);
+        }
+    }
+
+    static final class FilterSink extends Sink {
+        private final Sink next;
+        private final Predicate<Object> predicate;
+        private final Chunk<Object> out;
+
+        @SuppressWarnings("unchecked")
+        FilterSink(Sink next, Predicate<?> predicate, int chunkSize) {
+            this.next = next;
+            this.predicate = (Predicate<Object>) predicate;
+            this.out = new Chunk<>(new Object[chunkSize]);
+        }
+
+        @Override
+        void accept(Chunk<Object> chunk) throws Exception {
+            Object[] in = chunk.items;
+            Object[] items = out.items;
+            int size = 0;
+            for (int j = chunk.offset, end = chunk.offset + chunk.size; j < end; j++) {
+                Object value = in[j];
+                boolean accepted;
+                try {
+                    accepted = predicate.test(value);
+                } catch (Exception e) {
+                    // 出错之前通过的数据先往下传
+                    if (size != 0) {
+                        out.size = size;
+                        next.accept(out);
+                    }
+                    throw e;
+                }
+                if (accepted) {
+                    items[size++] = value;
+                }
+            }
+            // 全部被过滤掉时不往下传
+            if (size != 0) {
+                out.size = size;
+                next.accept(out);
+            }
+        }
+    }
+
+    /**
+     * 处理链的最后一级，也是订阅返回的 Disposable
+     */
+    abstract static class Terminal extends Sink implements Disposable {
+        private volatile boolean mDisposed;
+
+        @Override
+        public final void dispose() {
+            mDisposed = true;
+        }
+
+        @Override
+        public final boolean isDisposed() {
+            return mDisposed;
+        }
+
+        final void error(Throwable e) {
+            if (!mDisposed) {
+                mDisposed = true;
+                onError(e);
+            }
+        }
+
+        final void complete() {
+            if (!mDisposed) {
+                mDisposed = true;
+                onComplete();
+            }
+        }
+
+        abstract void onError(Throwable e);
+
+        abstract void onComplete();
+    }
+
+    static final class ChunkTerminal<T> extends Terminal {
+        private final Observer<? super Chunk<T>> observer;
+
+        ChunkTerminal(Observer<? super Chunk<T>> observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void accept(Chunk<Object> chunk) {
+            try {
+                observer.onNext((Chunk<T>) (Chunk<?>) chunk);
+            } catch (Throwable e) {
+                throw new ObserverException(e);
+            }
+        }
+
+        @Override
+        void onError(Throwable e) {
+            observer.onError(e);
+        }
+
+        @Override
+        void onComplete() {
+            observer.onComplete();
+        }
+    }
+
+    static final class FlattenTerminal<T> extends Terminal {
+        private final Observer<? super T> observer;
+
+        FlattenTerminal(Observer<? super T> observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void accept(Chunk<Object> chunk) {
+            Object[] items = chunk.items;
+            for (int j = chunk.offset, end = chunk.offset + chunk.size; j < end && !isDisposed(); j++) {
+                try {
+                    observer.onNext((T) items[j]);
+                } catch (Throwable e) {
+                    throw new ObserverException(e);
+                }
+            }
+        }
+
+        @Override
+        void onError(Throwable e) {
+            observer.onError(e);
+        }
+
+        @Override
+        void onComplete() {
+            observer.onComplete();
+        }
+    }
+
+    static final class BufferTerminal<T> extends Terminal {
+        private final Observer<? super List<T>> observer;
+        private final int count;
+        private List<T> buffer;
+
+        BufferTerminal(Observer<? super List<T>> observer, int count) {
+            this.observer = observer;
+            this.count = count;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void accept(Chunk<Object> chunk) {
+            Object[] items = chunk.items;
+            for (int j = chunk.offset, end = chunk.offset + chunk.size; j < end; j++) {
+                if (buffer == null) {
+                    buffer = new ArrayList<>(count);
+                }
+                buffer.add((T) items[j]);
+                if (buffer.size() == count) {
+                    List<T> full = buffer;
+                    buffer = null;
+                    try {
+                        observer.onNext(full);
+                    } catch (Throwable e) {
+                        throw new ObserverException(e);
+                    }
+                    if (isDisposed()) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        void onError(Throwable e) {
+            buffer = null;
+            observer.onError(e);
+        }
+
+        @Override
+        void onComplete() {
+            // 和 buffer() 相同，最后不满 count 个的也发射
+            List<T> last = buffer;
+            buffer = null;
+            if (last != null) {
+                observer.onNext(last);
+            }
+            observer.onComplete();
+        }
+    }
+
+    /**
+     * 包装 {@link Observer#onNext(Object)} 抛出的异常，和数据源、map、filter 抛出的异常区分开
+     */
+    static final class ObserverException extends RuntimeException {
+        private static final long serialVersionUID = -3326851203781536952L;
+
+        ObserverException(Throwable cause) {
+            super(cause);
+        }
+
+        /**
+         * @return 原来的异常，是 Error 时直接抛出
+         */
+        RuntimeException unwrap() {
+            Throwable cause = getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return cause instanceof RuntimeException ? (RuntimeException) cause : Exceptions.propagate(cause);
+        }
+    }
+}
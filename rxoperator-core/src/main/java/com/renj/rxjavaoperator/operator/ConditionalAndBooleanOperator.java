@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,8 @@ import io.reactivex.functions.Predicate;
  * ======================================================================
  */
 public class ConditionalAndBooleanOperator {
+    private static final NamedLogger LOG = Logger.forClass(ConditionalAndBooleanOperator.class);
+
     /**
      * 操作符：all() 操作符<br/>
      * 说明：判断Observable发射的所有的数据项是否都满足某个条件
@@ -45,7 +48,7 @@ public class ConditionalAndBooleanOperator {
                 }).subscribe(new Consumer<Boolean>() {
             @Override
             public void accept(Boolean aBoolean) throws Exception {
-                Logger.i("all operator result => " + aBoolean);
+                LOG.i("all operator result => " + aBoolean);
             }
         });
     }
@@ -64,7 +67,7 @@ public class ConditionalAndBooleanOperator {
                 .subscribe(new Consumer<Long>() {
                     @Override
                     public void accept(Long aLong) throws Exception {
-                        Logger.i("amb operator result => " + aLong);
+                        LOG.i("amb operator result => " + aLong);
                     }
                 });
     }
@@ -79,7 +82,7 @@ public class ConditionalAndBooleanOperator {
                 .subscribe(new Consumer<Boolean>() {
                     @Override
                     public void accept(Boolean aBoolean) throws Exception {
-                        Logger.i("contains operator result => " + aBoolean);
+                        LOG.i("contains operator result => " + aBoolean);
                     }
                 });
     }
@@ -96,7 +99,7 @@ public class ConditionalAndBooleanOperator {
         Observable.sequenceEqual(observable1, observable2).subscribe(new Consumer<Boolean>() {
             @Override
             public void accept(Boolean aBoolean) throws Exception {
-                Logger.i("sequenceEqual operator result => " + aBoolean);
+                LOG.i("sequenceEqual operator result => " + aBoolean);
             }
         });
     }
@@ -116,7 +119,7 @@ public class ConditionalAndBooleanOperator {
                 .subscribe(new Consumer<Boolean>() {
                     @Override
                     public void accept(Boolean aBoolean) throws Exception {
-                        Logger.i("isEmpty operator result => " + aBoolean);
+                        LOG.i("isEmpty operator result => " + aBoolean);
                     }
                 });
 
@@ -126,7 +129,7 @@ public class ConditionalAndBooleanOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("defaultIfEmpty operator result => " + integer);
+                        LOG.i("defaultIfEmpty operator result => " + integer);
                     }
                 });
     }
@@ -151,7 +154,7 @@ public class ConditionalAndBooleanOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("skipUntil operator result => " + integer);
+                        LOG.i("skipUntil operator result => " + integer);
                     }
                 });
 
@@ -165,7 +168,7 @@ public class ConditionalAndBooleanOperator {
         }).subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("skipWhile operator result => " + integer);
+                LOG.i("skipWhile operator result => " + integer);
             }
         });
     }
@@ -190,7 +193,7 @@ public class ConditionalAndBooleanOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("takeUntil operator result => " + integer);
+                        LOG.i("takeUntil operator result => " + integer);
                     }
                 });
 
@@ -204,7 +207,7 @@ public class ConditionalAndBooleanOperator {
         }).subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("takeWhile operator result => " + integer);
+                LOG.i("takeWhile operator result => " + integer);
             }
         });
     }
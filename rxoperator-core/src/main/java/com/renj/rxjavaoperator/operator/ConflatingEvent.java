@@ -0,0 +1,26 @@
+package com.renj.rxjavaoperator.operator;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   15:40
+ * <p>
+ * 描述：可以合并的 {@link RxBus} 事件。<br/>
+ * 使用 {@link RxBus#tObservableConflated(Class, io.reactivex.Scheduler)} 订阅时，
+ * 订阅者还没有处理的、key 相同的事件会被新事件替换，只处理最新的一个；
+ * 没有实现这个接口的事件按事件类型合并。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public interface ConflatingEvent {
+    /**
+     * 合并的 key，key 相同(equals)的事件只保留最新的
+     *
+     * @return 为 null 时和没有实现这个接口的事件一样，按事件类型合并
+     */
+    Object conflationKey();
+}
@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +34,8 @@ import io.reactivex.observables.ConnectableObservable;
  * ======================================================================
  */
 public class ConnectableOperator {
+    private static final NamedLogger LOG = Logger.forClass(ConnectableOperator.class);
+
     /**
      * 操作符：publish() 操作符<br/>
      * 说明：将一个普通的 Observable 对象转化为一个可连接的(Connectable Observable)。需要注意的是如果发射数据已经开始了再进行订阅只能接收以后发射的数据。
@@ -44,7 +47,7 @@ public class ConnectableOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("publish operator result => " + integer);
+                        LOG.i("publish operator result => " + integer);
                     }
                 });
     }
@@ -62,7 +65,7 @@ public class ConnectableOperator {
         connectableObservable.subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("connect operator result => " + integer);
+                LOG.i("connect operator result => " + integer);
             }
         });
 
@@ -76,7 +79,7 @@ public class ConnectableOperator {
 
                     @Override
                     public void onNext(Long aLong) {
-                        Logger.i("intervalRange operator onNext => " + aLong);
+                        LOG.i("intervalRange operator onNext => " + aLong);
                     }
 
                     @Override
@@ -86,7 +89,7 @@ public class ConnectableOperator {
 
                     @Override
                     public void onComplete() {
-                        Logger.i("intervalRange operator onComplete");
+                        LOG.i("intervalRange operator onComplete");
                         connectableObservable.connect(); // 调用了 connect() 方法之后才会开发发射数据
                     }
                 });
@@ -102,7 +105,7 @@ public class ConnectableOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("refCount operator onNext => " + integer);
+                        LOG.i("refCount operator onNext => " + integer);
                     }
                 });
     }
@@ -125,11 +128,11 @@ public class ConnectableOperator {
                 .subscribe(new Consumer<String>() {
                     @Override
                     public void accept(String s) throws Exception {
-                        Logger.i("delay 1000 milliseconds " + s);
+                        LOG.i("delay 1000 milliseconds " + s);
                         connectableObservable.subscribe(new Consumer<Integer>() {
                             @Override
                             public void accept(Integer integer) throws Exception {
-                                Logger.i("replay operator result => " + integer);
+                                LOG.i("replay operator result => " + integer);
                             }
                         });
                     }
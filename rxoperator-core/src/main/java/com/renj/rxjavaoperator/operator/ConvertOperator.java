@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.Collection;
 import java.util.List;
@@ -27,6 +28,8 @@ import io.reactivex.functions.Function;
  * ======================================================================
  */
 public class ConvertOperator {
+    private static final NamedLogger LOG = Logger.forClass(ConvertOperator.class);
+
     /**
      * 操作符：toXxx() 操作符<br/>
      * 说明：将 Observable 转换为其它的对象或数据结构
@@ -38,7 +41,7 @@ public class ConvertOperator {
                 .subscribe(new Consumer<List<String>>() {
                     @Override
                     public void accept(List<String> strings) throws Exception {
-                        Logger.i("toList operator result => " + strings);
+                        LOG.i("toList operator result => " + strings);
                     }
                 });
 
@@ -53,7 +56,7 @@ public class ConvertOperator {
                 .subscribe(new Consumer<Map<String, String>>() {
                     @Override
                     public void accept(Map<String, String> stringStringMap) throws Exception {
-                        Logger.i("toMap operator result => " + stringStringMap);
+                        LOG.i("toMap operator result => " + stringStringMap);
                     }
                 });
 
@@ -68,7 +71,7 @@ public class ConvertOperator {
                 .subscribe(new Consumer<Map<Integer, Collection<Integer>>>() {
                     @Override
                     public void accept(Map<Integer, Collection<Integer>> integerCollectionMap) throws Exception {
-                        Logger.i("toMultimap operator result => " + integerCollectionMap);
+                        LOG.i("toMultimap operator result => " + integerCollectionMap);
                     }
                 });
 
@@ -1,7 +1,10 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
@@ -12,6 +15,7 @@ import io.reactivex.ObservableSource;
 import io.reactivex.Observer;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Predicate;
 
 /**
  * ======================================================================
@@ -26,15 +30,22 @@ import io.reactivex.functions.Consumer;
  * 【 {@code never()} 操作符 {@link #specialOperator()} 】、【 {@code error()} 操作符 {@link #specialOperator()} 】、
  * 【 {@code range()} 操作符 {@link #rangeOperator()} 】、【 {@code defer()} 操作符 {@link #deferOperator()} 】、
  * 【 {@code repat()} 操作符 {@link #repatOperator()} 】、【 {@code timer()} 操作符 {@link #timerOperator()} 】、
- * 【 {@code interval()} 操作符 {@link #intervalOperator()} 】、【 {@code intervalRange()} 操作符 {@link #intervalRangeOperator()} 】
+ * 【 {@code interval()} 操作符 {@link #intervalOperator()} 】、【 {@code intervalRange()} 操作符 {@link #intervalRangeOperator()} 】、
+ * 【 不装箱的 {@code range()}/{@code intervalRange()} {@link #primitiveRangeOperator()} 】、
+ * 【 按批发射的 {@code fromIterable()} {@link #chunkedFromIterableOperator()} 】
  * <br/><br/>
  * <b>ReactiveX 系列所有操作符以及RxJava2与RxJava1的操作符变化可查看 <a href="http://reactivex.io/documentation/operators.html">ReactiveX 操作符</a></b>
  * <p>
  * 修订历史：
  * <p>
+ * 2026-10-18：增加不装箱的数据源 {@link IntObservable}、{@link LongObservable} 的演示<br/>
+ * 2026-10-19：增加按批发射的数据源 {@link ChunkedObservable} 的演示
+ * <p>
  * ======================================================================
  */
 public class CreateOperator {
+    private static final NamedLogger LOG = Logger.forClass(CreateOperator.class);
+
     /**
      * 操作符：create()操作符<br/>
      * 说明：通过调用观察者的方法从头创建一个Observable
@@ -49,7 +60,7 @@ public class CreateOperator {
         }).subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("create operator result => " + integer);
+                LOG.i("create operator result => " + integer);
             }
         });
     }
@@ -63,7 +74,7 @@ public class CreateOperator {
                 .subscribe(new Consumer<T>() {
                     @Override
                     public void accept(T t) throws Exception {
-                        Logger.i("just operator1 result => " + t);
+                        LOG.i("just operator1 result => " + t);
                     }
                 });
     }
@@ -72,13 +83,14 @@ public class CreateOperator {
      * 操作符：just()操作符<br/>
      * 说明：将对象或者对象集合转换为一个会发射这些对象的Observable
      */
+    @SafeVarargs
     public static <T> void justOperator(T... params) {
         Observable.just(params)
                 .subscribe(new Consumer<T[]>() {
                     @Override
                     public void accept(T[] ts) throws Exception {
                         for (T t : ts) {
-                            Logger.i("just operator2 result => " + t);
+                            LOG.i("just operator2 result => " + t);
                         }
                     }
                 });
@@ -98,17 +110,17 @@ public class CreateOperator {
 
             @Override
             public void onNext(Object o) {
-                Logger.i("empty operator onNext => " + o);
+                LOG.i("empty operator onNext => " + o);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.i("empty operator onError => " + e);
+                LOG.i("empty operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("empty operator onComplete");
+                LOG.i("empty operator onComplete");
             }
         });
 
@@ -121,17 +133,17 @@ public class CreateOperator {
 
             @Override
             public void onNext(Object o) {
-                Logger.i("never operator onNext => " + o);
+                LOG.i("never operator onNext => " + o);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.i("never operator onError => " + e);
+                LOG.i("never operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("never operator onComplete");
+                LOG.i("never operator onComplete");
             }
         });
 
@@ -145,17 +157,17 @@ public class CreateOperator {
 
                     @Override
                     public void onNext(Object o) {
-                        Logger.i("error operator onNext => " + o);
+                        LOG.i("error operator onNext => " + o);
                     }
 
                     @Override
                     public void onError(Throwable throwable) {
-                        Logger.e("error operator onError => " + throwable.getMessage());
+                        LOG.e("error operator onError => " + throwable.getMessage());
                     }
 
                     @Override
                     public void onComplete() {
-                        Logger.i("error operator onComplete");
+                        LOG.i("error operator onComplete");
                     }
                 });
     }
@@ -174,7 +186,7 @@ public class CreateOperator {
                 .subscribe(new Consumer<String>() {
                     @Override
                     public void accept(String s) throws Exception {
-                        Logger.i("fromXxx operator result => " + s);
+                        LOG.i("fromXxx operator result => " + s);
                     }
                 });
     }
@@ -188,7 +200,7 @@ public class CreateOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("range operator result => " + integer);
+                        LOG.i("range operator result => " + integer);
                     }
                 });
     }
@@ -208,13 +220,13 @@ public class CreateOperator {
         defer.subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("defer operator result1 => " + integer);
+                LOG.i("defer operator result1 => " + integer);
             }
         });
         defer.subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("defer operator result2 => " + integer);
+                LOG.i("defer operator result2 => " + integer);
             }
         });
     }
@@ -229,7 +241,7 @@ public class CreateOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("repeat operator result => " + integer);
+                        LOG.i("repeat operator result => " + integer);
                     }
                 });
     }
@@ -243,7 +255,7 @@ public class CreateOperator {
                 .subscribe(new Consumer<Long>() {
                     @Override
                     public void accept(Long aLong) throws Exception {
-                        Logger.i("Thread => " + Thread.currentThread() + " ; timer operator result => " + aLong);
+                        LOG.i("Thread => " + Thread.currentThread() + " ; timer operator result => " + aLong);
                     }
                 });
     }
@@ -258,7 +270,7 @@ public class CreateOperator {
                 .subscribe(new Consumer<Long>() {
                     @Override
                     public void accept(Long aLong) throws Exception {
-                        Logger.i("Thread => " + Thread.currentThread() + " ; interval operator result => " + aLong);
+                        LOG.i("Thread => " + Thread.currentThread() + " ; interval operator result => " + aLong);
                     }
                 });
     }
@@ -272,7 +284,75 @@ public class CreateOperator {
                 .subscribe(new Consumer<Long>() {
                     @Override
                     public void accept(Long aLong) throws Exception {
-                        Logger.i("Thread => " + Thread.currentThread() + " ; intervalRange operator result => " + aLong);
+                        LOG.i("Thread => " + Thread.currentThread() + " ; intervalRange operator result => " + aLong);
+                    }
+                });
+    }
+
+    /**
+     * 操作符：不装箱的 range()/intervalRange()<br/>
+     * 说明：{@link IntObservable}、{@link LongObservable} 的 map/filter/reduce 之间直接传递 int/long，
+     * 只在转换为普通的 Observable({@code boxed()})或 reduce 的结果中装箱，适合计数器、id 生成器等大量数据的场景
+     */
+    public static void primitiveRangeOperator() {
+        IntObservable.range(3, 4)
+                .map(new IntObservable.IntMapper() {
+                    @Override
+                    public int apply(int value) throws Exception {
+                        return value * value;
+                    }
+                })
+                .reduce(0, new IntObservable.IntReducer() {
+                    @Override
+                    public int apply(int accumulator, int value) throws Exception {
+                        return accumulator + value;
+                    }
+                })
+                .subscribe(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer integer) throws Exception {
+                        LOG.i("primitive range operator result => " + integer);
+                    }
+                });
+
+        LongObservable.intervalRange(3, 5, 2000, 1000, TimeUnit.MILLISECONDS)
+                .filter(new LongObservable.LongPredicate() {
+                    @Override
+                    public boolean test(long value) throws Exception {
+                        return value % 2 == 1;
+                    }
+                })
+                .boxed()
+                .subscribe(new Consumer<Long>() {
+                    @Override
+                    public void accept(Long aLong) throws Exception {
+                        LOG.i("Thread => " + Thread.currentThread() + " ; primitive intervalRange operator result => " + aLong);
+                    }
+                });
+    }
+
+    /**
+     * 操作符：按批发射的 fromIterable()/fromArray()<br/>
+     * 说明：{@link ChunkedObservable} 每次发射一批数据，map/filter 在一个循环中处理整批数据；
+     * 结束时可以按 {@code buffer(count)} 的方式重新打包为 List，也可以 {@code flatten()} 重新逐个发射
+     */
+    public static void chunkedFromIterableOperator() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        ChunkedObservable.fromIterableChunked(list, 4)
+                .filter(new Predicate<Integer>() {
+                    @Override
+                    public boolean test(Integer integer) throws Exception {
+                        return integer % 3 != 0;
+                    }
+                })
+                .buffer(3)
+                .subscribe(new Consumer<List<Integer>>() {
+                    @Override
+                    public void accept(List<Integer> integers) throws Exception {
+                        LOG.i("chunked fromIterable operator result => " + integers);
                     }
                 });
     }
@@ -0,0 +1,237 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   18:20
+ * <p>
+ * 描述：{@link RxBus} 内置的事件分发线程池，线程数固定。<br/>
+ * 每个订阅者在订阅时固定分配到一个线程(轮流分配)，之后它的所有事件都在这个线程中处理：
+ * 同一个订阅者的事件天然有序，不需要加锁，也不会在多个线程之间来回切换。<br/>
+ * 一个线程上有多个订阅者时，每个订阅者连续处理 {@link #BATCH_SIZE} 个事件后让出线程，避免其他订阅者饿死。<br/>
+ * 调用 {@link #shutdown()} 后已经排队的事件处理完线程就退出，之后的事件丢弃。
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：让出线程时线程池已经停止，在当前线程中继续处理剩下的事件，不再丢弃已经排队的事件<br/>
+ * ======================================================================
+ */
+final class DeliveryExecutor {
+    // 订阅者连续处理的最大事件数
+    static final int BATCH_SIZE = 64;
+
+    private final ExecutorService[] mWorkers;
+    private final AtomicInteger mNext = new AtomicInteger();
+
+    DeliveryExecutor(int workerCount) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount > 0 required but it was " + workerCount);
+        }
+        mWorkers = new ExecutorService[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            final String name = "RxBus-delivery-" + i;
+            mWorkers[i] = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, name);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+    }
+
+    /**
+     * 订阅时固定分配一个线程，在这个线程中收到 source 的事件
+     *
+     * @param source
+     * @return
+     */
+    Observable<Object> deliver(ObservableSource<Object> source) {
+        return new DeliverObservable(source, this);
+    }
+
+    /**
+     * 停止所有线程，已经排队的事件仍然会处理完，之后发送的事件丢弃
+     */
+    void shutdown() {
+        for (ExecutorService worker : mWorkers) {
+            worker.shutdown();
+        }
+    }
+
+    /**
+     * 等待所有线程退出
+     *
+     * @param timeout
+     * @param unit
+     * @return 超时之前全部退出时返回 true
+     * @throws InterruptedException
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService worker : mWorkers) {
+            if (!worker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Executor nextWorker() {
+        return mWorkers[(mNext.getAndIncrement() & Integer.MAX_VALUE) % mWorkers.length];
+    }
+
+    static final class DeliverObservable extends Observable<Object> {
+        private final ObservableSource<Object> source;
+        private final DeliveryExecutor executor;
+
+        DeliverObservable(ObservableSource<Object> source, DeliveryExecutor executor) {
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        protected void subscribeActual(Observer<? super Object> observer) {
+            source.subscribe(new DeliverObserver(observer, executor.nextWorker()));
+        }
+    }
+
+    static final class DeliverObserver extends AtomicInteger implements Observer<Object>, Disposable, Runnable {
+        private static final long serialVersionUID = 1629249388798213973L;
+
+        private final Observer<? super Object> actual;
+        // 固定分配的线程
+        private final Executor worker;
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private Disposable upstream;
+        private volatile boolean disposed;
+        private volatile boolean done;
+        private Throwable error;
+
+        DeliverObserver(Observer<? super Object> actual, Executor worker) {
+            this.actual = actual;
+            this.worker = worker;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            actual.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(Object event) {
+            queue.offer(event);
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                upstream.dispose();
+                if (getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0 && !execute()) {
+                // 线程池已经停止，没有在处理中的事件：shutdown() 之后发送的事件丢弃，不再接收
+                disposed = true;
+                upstream.dispose();
+                queue.clear();
+            }
+        }
+
+        /**
+         * @return 线程池已经停止时返回 false
+         */
+        private boolean execute() {
+            try {
+                worker.execute(this);
+                return true;
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            int emitted = 0;
+            for (; ; ) {
+                Object event;
+                while ((event = queue.poll()) != null) {
+                    if (disposed) {
+                        queue.clear();
+                        return;
+                    }
+                    actual.onNext(event);
+                    if (++emitted == BATCH_SIZE) {
+                        // 让出线程，排到同一线程上其他订阅者的后面；
+                        // 线程池已经停止时不能再排队，在当前线程中继续处理已经排队的事件
+                        if (execute()) {
+                            return;
+                        }
+                        emitted = 0;
+                    }
+                }
+                if (disposed) {
+                    queue.clear();
+                    return;
+                }
+                if (done) {
+                    disposed = true;
+                    if (error != null) {
+                        actual.onError(error);
+                    } else {
+                        actual.onComplete();
+                    }
+                    return;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+}
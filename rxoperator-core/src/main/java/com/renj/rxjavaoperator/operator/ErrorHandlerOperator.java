@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import io.reactivex.Observable;
 import io.reactivex.ObservableEmitter;
@@ -30,6 +31,8 @@ import io.reactivex.functions.Function;
  * ======================================================================
  */
 public class ErrorHandlerOperator {
+    private static final NamedLogger LOG = Logger.forClass(ErrorHandlerOperator.class);
+
     /**
      * 操作符：onErrorReturn() 操作符<br/>
      * 说明：用返回的字符串替换错误的项，然后调用 onComplete()方法
@@ -58,17 +61,17 @@ public class ErrorHandlerOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("onErrorReturn operator result => " + s);
+                LOG.i("onErrorReturn operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("onErrorReturn operator onError => " + e);
+                LOG.e("onErrorReturn operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("onErrorReturn operator onComplete");
+                LOG.i("onErrorReturn operator onComplete");
             }
         });
     }
@@ -101,17 +104,17 @@ public class ErrorHandlerOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("onErrorResumeNext(Function) operator result => " + s);
+                LOG.i("onErrorResumeNext(Function) operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("onErrorResumeNext(Function) operator onError => " + e);
+                LOG.e("onErrorResumeNext(Function) operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("onErrorResumeNext(Function) operator onComplete");
+                LOG.i("onErrorResumeNext(Function) operator onComplete");
             }
         });
     }
@@ -145,17 +148,17 @@ public class ErrorHandlerOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("onErrorResumeNext(Observable) operator result => " + s);
+                LOG.i("onErrorResumeNext(Observable) operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("onErrorResumeNext(Observable) operator onError => " + e);
+                LOG.e("onErrorResumeNext(Observable) operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("onErrorResumeNext(Observable) operator onComplete");
+                LOG.i("onErrorResumeNext(Observable) operator onComplete");
             }
         });
     }
@@ -183,17 +186,17 @@ public class ErrorHandlerOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("onErrorReturnItem operator result => " + s);
+                LOG.i("onErrorReturnItem operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("onErrorReturnItem operator onError => " + e);
+                LOG.e("onErrorReturnItem operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("onErrorReturnItem operator onComplete");
+                LOG.i("onErrorReturnItem operator onComplete");
             }
         });
     }
@@ -225,17 +228,17 @@ public class ErrorHandlerOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("onExceptionResumeNext operator result => " + s);
+                LOG.i("onExceptionResumeNext operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("onExceptionResumeNext operator onError => " + e);
+                LOG.e("onExceptionResumeNext operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("onExceptionResumeNext operator onComplete");
+                LOG.i("onExceptionResumeNext operator onComplete");
             }
         });
     }
@@ -267,17 +270,17 @@ public class ErrorHandlerOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("retry operator result => " + s);
+                LOG.i("retry operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("retry operator onError => " + e);
+                LOG.e("retry operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("retry operator onComplete");
+                LOG.i("retry operator onComplete");
             }
         });
     }
@@ -310,17 +313,17 @@ public class ErrorHandlerOperator {
 
             @Override
             public void onNext(String s) {
-                Logger.i("retryWhen operator result => " + s);
+                LOG.i("retryWhen operator result => " + s);
             }
 
             @Override
             public void onError(Throwable e) {
-                Logger.e("retryWhen operator onError => " + e);
+                LOG.e("retryWhen operator onError => " + e);
             }
 
             @Override
             public void onComplete() {
-                Logger.i("retryWhen operator onComplete");
+                LOG.i("retryWhen operator onComplete");
             }
         });
     }
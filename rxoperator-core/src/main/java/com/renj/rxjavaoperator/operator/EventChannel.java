@@ -0,0 +1,558 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.CompositeException;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   10:20
+ * <p>
+ * 描述：{@link RxBus} 内部使用的事件通道，每一种被订阅的事件类型对应一个通道。<br/>
+ * 通道只会收到该类型(及其子类型)的事件，所以订阅者不再需要 {@code ofType()} 逐个判断。<br/>
+ * 发送端使用 队列 + 原子计数(queue-drain) 的方式串行化，不加锁：
+ * 谁把计数从 0 改为 1 谁就负责把队列中的事件依次分发给当前所有订阅者。<br/>
+ * 通道可以拆分为多个分片(lane)，每个分片独立串行化，不同分片的事件可以在多个线程中并行发送；
+ * 同一分片中的事件保持发送顺序。分片数大于 1 时，订阅者自己再做一次串行化，保证不会被并发回调。<br/>
+ * 批量发送的事件作为一个整体入队，一次分发完成；批量订阅者({@link #batches()})按批收到 {@code List}。<br/>
+ * 粘性事件以 {@link StickyEventStore.StickyEvent} 的形式入队，粘性订阅者({@link #sticky()})根据序号去掉重复的事件。<br/>
+ * 开启统计时事件以 {@link RxBusMetrics.TimedItem} 的形式入队，分发后记录延迟。<br/>
+ * 每个分片中按优先级({@link EventPriority})分为多个队列，排队时高优先级的先分发，
+ * 连续分发 {@link #STARVATION_LIMIT} 个较高优先级的事件后让最低优先级的事件分发一个。<br/>
+ * 订阅者的 {@code onNext()} 抛出异常时，这个订阅者被取消并收到 {@code onError()}，其他订阅者和之后的事件照常分发。
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：订阅者抛出的异常不再中断分发(会导致分片一直处于分发中状态，之后的事件都无法发出)<br/>
+ * ======================================================================
+ */
+final class EventChannel extends Observable<Object> {
+    private static final ChannelDisposable[] EMPTY = new ChannelDisposable[0];
+    // 优先级个数
+    private static final int PRIORITY_COUNT = EventPriority.LOW + 1;
+    // 连续分发多少个较高优先级的事件后，让低优先级的事件分发一个
+    static final int STARVATION_LIMIT = 8;
+
+    final Class<?> eventType;
+    // 当前所有订阅者，写时复制
+    private final AtomicReference<ChannelDisposable[]> mSubscribers;
+    // 当前所有批量订阅者，写时复制
+    private final AtomicReference<ChannelDisposable[]> mBatchSubscribers;
+    private final Observable<Object> mBatchObservable;
+    private final Observable<Object> mStickyObservable;
+    private final StickyEventStore mStickyStore;
+    // 分片，每个分片独立串行化
+    private final Lane[] mLanes;
+
+    EventChannel(Class<?> eventType, int laneCount, StickyEventStore stickyStore) {
+        this.eventType = eventType;
+        this.mStickyStore = stickyStore;
+        this.mStickyObservable = new StickyObservable();
+        this.mSubscribers = new AtomicReference<>(EMPTY);
+        this.mBatchSubscribers = new AtomicReference<>(EMPTY);
+        this.mBatchObservable = new BatchObservable();
+        this.mLanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            mLanes[i] = new Lane();
+        }
+    }
+
+    /**
+     * 发送一个事件，可以在任意线程中调用
+     *
+     * @param item 事件，粘性事件为 {@link StickyEventStore.StickyEvent}，开启统计时为 {@link RxBusMetrics.TimedItem}
+     * @param hash     用于选择分片，相同 hash、相同优先级的事件保持发送顺序
+     * @param priority 优先级
+     */
+    void offer(Object item, int hash, int priority) {
+        Lane lane = lane(hash);
+        lane.queues[priority].offer(item);
+        drain(lane);
+    }
+
+    /**
+     * 批量发送事件，同一分片中的事件只入队一次、在一次分发中全部完成，使用第一个事件的优先级
+     *
+     * @param events  事件，发送之后不能再修改
+     * @param metrics 没有开启统计时为 null
+     */
+    void offerAll(List<Object> events, RxBusMetrics metrics) {
+        if (mLanes.length == 1) {
+            offerBatch(mLanes[0], events, metrics);
+            return;
+        }
+        // 多个分片时，将连续的、属于同一分片的事件作为一批
+        int start = 0;
+        Lane current = lane(events.get(0).getClass().hashCode());
+        for (int i = 1, size = events.size(); i < size; i++) {
+            Lane lane = lane(events.get(i).getClass().hashCode());
+            if (lane != current) {
+                offerBatch(current, events.subList(start, i), metrics);
+                start = i;
+                current = lane;
+            }
+        }
+        offerBatch(current, start == 0 ? events : events.subList(start, events.size()), metrics);
+    }
+
+    /**
+     * 批量订阅，每次收到一批事件({@code List})
+     *
+     * @return
+     */
+    Observable<Object> batches() {
+        return mBatchObservable;
+    }
+
+    /**
+     * 订阅粘性事件，先收到已经保存的粘性事件，再收到实时事件，每个事件只收到一次
+     *
+     * @return
+     */
+    Observable<Object> sticky() {
+        return mStickyObservable;
+    }
+
+    /**
+     * 是否有订阅者
+     *
+     * @return
+     */
+    boolean hasObservers() {
+        return mSubscribers.get().length != 0 || mBatchSubscribers.get().length != 0;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Object> observer) {
+        attach(observer, mSubscribers);
+    }
+
+    private void attach(Observer<? super Object> observer, AtomicReference<ChannelDisposable[]> subscribers) {
+        ChannelDisposable disposable = mLanes.length == 1
+                ? new ChannelDisposable(observer, subscribers)
+                : new SerializedChannelDisposable(observer, subscribers);
+        observer.onSubscribe(disposable);
+        add(subscribers, disposable);
+        if (disposable.isDisposed()) {
+            remove(subscribers, disposable);
+        }
+    }
+
+    private Lane lane(int hash) {
+        return mLanes.length == 1 ? mLanes[0] : mLanes[(hash & Integer.MAX_VALUE) % mLanes.length];
+    }
+
+    private void offerBatch(Lane lane, List<Object> events, RxBusMetrics metrics) {
+        Object batch = new Batch(Collections.unmodifiableList(events));
+        lane.queues[EventTypeCache.priority(events.get(0).getClass())].offer(metrics == null ? batch : new RxBusMetrics.TimedItem(batch, metrics, System.nanoTime()));
+        drain(lane);
+    }
+
+    /**
+     * 当前订阅者个数(包括批量订阅者)
+     *
+     * @return
+     */
+    int subscriberCount() {
+        return mSubscribers.get().length + mBatchSubscribers.get().length;
+    }
+
+    private void drain(Lane lane) {
+        if (lane.wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (; ; ) {
+            // 本次分发中单个发送的事件，合并后交给批量订阅者
+            List<Object> singles = null;
+            Object item;
+            while ((item = lane.poll()) != null) {
+                RxBusMetrics.TimedItem timed = null;
+                if (item instanceof RxBusMetrics.TimedItem) {
+                    timed = (RxBusMetrics.TimedItem) item;
+                    item = timed.item;
+                }
+                ChannelDisposable[] subscribers = mSubscribers.get();
+                if (item instanceof Batch) {
+                    if (singles != null) {
+                        emitBatch(Collections.unmodifiableList(singles));
+                        singles = null;
+                    }
+                    List<Object> events = ((Batch) item).events;
+                    for (int i = 0, size = events.size(); i < size; i++) {
+                        Object event = events.get(i);
+                        for (ChannelDisposable subscriber : subscribers) {
+                            subscriber.onNext(event);
+                        }
+                    }
+                    emitBatch(events);
+                } else {
+                    Object event = item;
+                    if (item instanceof StickyEventStore.StickyEvent) {
+                        StickyEventStore.StickyEvent sticky = (StickyEventStore.StickyEvent) item;
+                        event = sticky.event;
+                        for (ChannelDisposable subscriber : subscribers) {
+                            subscriber.onSticky(sticky);
+                        }
+                    } else {
+                        for (ChannelDisposable subscriber : subscribers) {
+                            subscriber.onNext(item);
+                        }
+                    }
+                    if (mBatchSubscribers.get().length != 0) {
+                        if (singles == null) {
+                            singles = new ArrayList<>();
+                        }
+                        singles.add(event);
+                    }
+                }
+                if (timed != null) {
+                    timed.onDelivered(subscribers.length);
+                }
+            }
+            if (singles != null) {
+                emitBatch(Collections.unmodifiableList(singles));
+            }
+            missed = lane.wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void emitBatch(List<Object> events) {
+        for (ChannelDisposable subscriber : mBatchSubscribers.get()) {
+            subscriber.onNext(events);
+        }
+    }
+
+    private static void add(AtomicReference<ChannelDisposable[]> subscribers, ChannelDisposable disposable) {
+        for (; ; ) {
+            ChannelDisposable[] current = subscribers.get();
+            int length = current.length;
+            ChannelDisposable[] update = new ChannelDisposable[length + 1];
+            System.arraycopy(current, 0, update, 0, length);
+            update[length] = disposable;
+            if (subscribers.compareAndSet(current, update)) {
+                return;
+            }
+        }
+    }
+
+    private static void remove(AtomicReference<ChannelDisposable[]> subscribers, ChannelDisposable disposable) {
+        for (; ; ) {
+            ChannelDisposable[] current = subscribers.get();
+            int length = current.length;
+            int index = -1;
+            for (int i = 0; i < length; i++) {
+                if (current[i] == disposable) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            ChannelDisposable[] update;
+            if (length == 1) {
+                update = EMPTY;
+            } else {
+                update = new ChannelDisposable[length - 1];
+                System.arraycopy(current, 0, update, 0, index);
+                System.arraycopy(current, index + 1, update, index, length - index - 1);
+            }
+            if (subscribers.compareAndSet(current, update)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 通道的一个分片
+     */
+    static final class Lane {
+        // 等待分发的事件，每个优先级一个队列
+        final Queue<Object>[] queues;
+        // 分发计数，不为 0 时表示有线程正在分发
+        final AtomicInteger wip = new AtomicInteger();
+        // 连续分发的较高优先级事件个数，只在分发中访问
+        private int highStreak;
+
+        @SuppressWarnings("unchecked")
+        Lane() {
+            queues = (Queue<Object>[]) new Queue<?>[PRIORITY_COUNT];
+            for (int i = 0; i < PRIORITY_COUNT; i++) {
+                queues[i] = new ConcurrentLinkedQueue<>();
+            }
+        }
+
+        /**
+         * 按优先级取出下一个事件，只在分发中调用
+         *
+         * @return 没有时返回 null
+         */
+        Object poll() {
+            if (highStreak >= STARVATION_LIMIT) {
+                highStreak = 0;
+                // 从最低优先级开始，让等待最久的一个先分发
+                for (int i = PRIORITY_COUNT - 1; i > 0; i--) {
+                    Object item = queues[i].poll();
+                    if (item != null) {
+                        return item;
+                    }
+                }
+            }
+            for (int i = 0; i < PRIORITY_COUNT; i++) {
+                Object item = queues[i].poll();
+                if (item != null) {
+                    highStreak = i == PRIORITY_COUNT - 1 ? 0 : highStreak + 1;
+                    return item;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 批量发送的事件，作为一个整体入队
+     */
+    static final class Batch {
+        final List<Object> events;
+
+        Batch(List<Object> events) {
+            this.events = events;
+        }
+    }
+
+    /**
+     * 批量订阅，订阅者保存在批量订阅者集合中
+     */
+    final class BatchObservable extends Observable<Object> {
+        @Override
+        protected void subscribeActual(Observer<? super Object> observer) {
+            attach(observer, mBatchSubscribers);
+        }
+    }
+
+    /**
+     * 粘性订阅。先加入订阅者集合(实时事件暂存)，再读取已保存的粘性事件，
+     * 这样两者之间发送的粘性事件要么在读取的结果中，要么在实时事件中，不会丢失；同时在两者中的根据序号去掉
+     */
+    final class StickyObservable extends Observable<Object> {
+        @Override
+        protected void subscribeActual(Observer<? super Object> observer) {
+            StickyChannelDisposable disposable = new StickyChannelDisposable(observer, mSubscribers);
+            observer.onSubscribe(disposable);
+            add(mSubscribers, disposable);
+            if (disposable.isDisposed()) {
+                remove(mSubscribers, disposable);
+                return;
+            }
+            disposable.replay(mStickyStore.getAll(eventType));
+        }
+    }
+
+    /**
+     * 通道中的一个订阅者
+     */
+    static class ChannelDisposable extends AtomicBoolean implements Disposable {
+        private static final long serialVersionUID = 1044226222319969902L;
+
+        final Observer<? super Object> actual;
+        // 所在的订阅者集合，取消订阅时从中移除
+        private final AtomicReference<ChannelDisposable[]> parent;
+
+        ChannelDisposable(Observer<? super Object> actual, AtomicReference<ChannelDisposable[]> parent) {
+            this.actual = actual;
+            this.parent = parent;
+        }
+
+        void onNext(Object event) {
+            if (!get()) {
+                try {
+                    actual.onNext(event);
+                } catch (Throwable e) {
+                    Exceptions.throwIfFatal(e);
+                    dispose();
+                    onError(e);
+                }
+            }
+        }
+
+        /**
+         * 订阅者自己抛出的异常交给它的 onError，onError 再抛出时交给 {@link RxJavaPlugins#onError(Throwable)}
+         */
+        private void onError(Throwable e) {
+            try {
+                actual.onError(e);
+            } catch (Throwable inner) {
+                Exceptions.throwIfFatal(inner);
+                RxJavaPlugins.onError(new CompositeException(e, inner));
+            }
+        }
+
+        void onSticky(StickyEventStore.StickyEvent sticky) {
+            onNext(sticky.event);
+        }
+
+        @Override
+        public void dispose() {
+            if (compareAndSet(false, true)) {
+                remove(parent, this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get();
+        }
+    }
+
+    /**
+     * 多个分片时使用的订阅者，多个分片可能同时回调 {@link #onNext(Object)}，在这里串行化。<br/>
+     * 没有竞争时直接回调，不需要入队
+     */
+    static final class SerializedChannelDisposable extends ChannelDisposable {
+        private static final long serialVersionUID = -2147805811893510416L;
+
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        SerializedChannelDisposable(Observer<? super Object> actual, AtomicReference<ChannelDisposable[]> parent) {
+            super(actual, parent);
+        }
+
+        @Override
+        void onNext(Object event) {
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                super.onNext(event);
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+            } else {
+                queue.offer(event);
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            int missed = 1;
+            for (; ; ) {
+                Object next;
+                while ((next = queue.poll()) != null) {
+                    super.onNext(next);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 粘性订阅者。重放已保存的粘性事件之前，实时事件先暂存在队列中；
+     * 重放之后，序号不大于已重放的同类型粘性事件的实时粘性事件是重复的(或已经被替换的)，直接丢弃
+     */
+    static final class StickyChannelDisposable extends ChannelDisposable {
+        private static final long serialVersionUID = -2894801896710123094L;
+
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean replayed;
+        // 已经重放的粘性事件中，每种类型最大的序号，只在串行分发中读取
+        private Map<Class<?>, Long> replayedSequence;
+
+        StickyChannelDisposable(Observer<? super Object> actual, AtomicReference<ChannelDisposable[]> parent) {
+            super(actual, parent);
+        }
+
+        /**
+         * 重放已经保存的粘性事件，然后开始分发实时事件
+         *
+         * @param stickyEvents 按保存顺序排列
+         */
+        void replay(List<StickyEventStore.StickyEvent> stickyEvents) {
+            Map<Class<?>, Long> sequences = Collections.emptyMap();
+            if (!stickyEvents.isEmpty()) {
+                sequences = new HashMap<>();
+                for (StickyEventStore.StickyEvent sticky : stickyEvents) {
+                    super.onNext(sticky.event);
+                    sequences.put(sticky.event.getClass(), sticky.sequence);
+                }
+            }
+            replayedSequence = sequences;
+            // 先占住分发权再打开开关，保证暂存的事件在新的实时事件之前发出
+            wip.getAndIncrement();
+            replayed = true;
+            drainLoop();
+        }
+
+        @Override
+        void onNext(Object event) {
+            emit(event);
+        }
+
+        @Override
+        void onSticky(StickyEventStore.StickyEvent sticky) {
+            emit(sticky);
+        }
+
+        private void emit(Object item) {
+            if (replayed && wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                deliver(item);
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+            } else {
+                queue.offer(item);
+                if (!replayed || wip.getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (; ; ) {
+                Object item;
+                while ((item = queue.poll()) != null) {
+                    deliver(item);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void deliver(Object item) {
+            if (item instanceof StickyEventStore.StickyEvent) {
+                StickyEventStore.StickyEvent sticky = (StickyEventStore.StickyEvent) item;
+                Long sequence = replayedSequence.get(sticky.event.getClass());
+                if (sequence == null || sticky.sequence > sequence) {
+                    super.onNext(sticky.event);
+                }
+            } else {
+                super.onNext(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   17:00
+ * <p>
+ * 描述：{@link RxBusBridge} 跨进程发送事件时使用的二进制编解码器。<br/>
+ * 编码时直接写入 {@link ByteBuffer}，空间不够时抛出 {@link java.nio.BufferOverflowException} 即可，桥接会换一个更大的缓冲区重试；
+ * 解码时 buffer 的 limit 就是这个事件的结尾。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public interface EventCodec<T> {
+    /**
+     * 字符串，UTF-8 编码
+     */
+    EventCodec<String> STRING = new EventCodec<String>() {
+        private final Charset utf8 = Charset.forName("UTF-8");
+
+        @Override
+        public void encode(String event, ByteBuffer buffer) {
+            buffer.put(event.getBytes(utf8));
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new String(bytes, utf8);
+        }
+    };
+
+    /**
+     * 长整数，8 个字节
+     */
+    EventCodec<Long> LONG = new EventCodec<Long>() {
+        @Override
+        public void encode(Long event, ByteBuffer buffer) {
+            buffer.putLong(event);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    /**
+     * 将事件写入 buffer
+     *
+     * @param event
+     * @param buffer
+     */
+    void encode(T event, ByteBuffer buffer);
+
+    /**
+     * 从 buffer 中读取一个事件
+     *
+     * @param buffer
+     * @return
+     */
+    T decode(ByteBuffer buffer);
+}
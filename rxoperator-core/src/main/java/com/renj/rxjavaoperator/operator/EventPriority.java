@@ -0,0 +1,45 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   15:00
+ * <p>
+ * 描述：{@link RxBus} 事件的优先级，标注在事件类上，子类会继承。<br/>
+ * 同一个事件通道中排队的事件，高优先级的先分发；连续分发了多个高优先级事件之后，会让低优先级的事件分发一个，避免低优先级的事件一直得不到分发。<br/>
+ * 没有标注的事件为 {@link #NORMAL}，也可以使用 {@link RxBus#postPriority(Object, int)} 在发送时指定
+ * <pre>
+ *  <code>@EventPriority(EventPriority.HIGH)</code>
+ *  <code>public class ControlEvent {</code>
+ *  <code>}</code>
+ * </pre>
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface EventPriority {
+    int HIGH = 0;
+    int NORMAL = 1;
+    int LOW = 2;
+
+    /**
+     * 优先级，{@link #HIGH}、{@link #NORMAL} 或 {@link #LOW}
+     *
+     * @return
+     */
+    int value() default NORMAL;
+}
@@ -0,0 +1,79 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   17:40
+ * <p>
+ * 描述：事件类型 id 和 {@link EventCodec} 的登记表，{@link RxBusBridge} 和 {@link RxBusJournal} 共用。
+ * 按具体类型匹配，不查找父类型。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+final class EventRegistry {
+    private final ConcurrentHashMap<Class<?>, Registration<?>> mTypeMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Registration<?>> mIdMap = new ConcurrentHashMap<>();
+
+    /**
+     * 登记一种事件类型
+     *
+     * @param typeId 0 ~ 65535
+     * @param type
+     * @param codec
+     * @param <T>
+     */
+    <T> void register(int typeId, Class<T> type, EventCodec<T> codec) {
+        if (typeId < 0 || typeId > 0xFFFF) {
+            throw new IllegalArgumentException("typeId must be in [0, 65535] but it was " + typeId);
+        }
+        Registration<T> registration = new Registration<>(typeId, type, codec);
+        mTypeMap.put(type, registration);
+        mIdMap.put(typeId, registration);
+    }
+
+    /**
+     * @param type
+     * @return 没有登记时返回 null
+     */
+    Registration<?> forType(Class<?> type) {
+        return mTypeMap.get(type);
+    }
+
+    /**
+     * @param typeId
+     * @return 没有登记时返回 null
+     */
+    Registration<?> forId(int typeId) {
+        return mIdMap.get(typeId);
+    }
+
+    /**
+     * 一种登记的事件类型
+     */
+    static final class Registration<T> {
+        final int typeId;
+        final Class<T> type;
+        final EventCodec<T> codec;
+
+        Registration(int typeId, Class<T> type, EventCodec<T> codec) {
+            this.typeId = typeId;
+            this.type = type;
+            this.codec = codec;
+        }
+
+        void encode(Object event, ByteBuffer buffer) {
+            codec.encode(type.cast(event), buffer);
+        }
+
+        T decode(ByteBuffer buffer) {
+            return codec.decode(buffer);
+        }
+    }
+}
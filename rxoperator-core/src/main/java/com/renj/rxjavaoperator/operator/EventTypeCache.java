@@ -0,0 +1,85 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   13:10
+ * <p>
+ * 描述：事件类型的继承关系缓存。<br/>
+ * 每个事件类型的所有父类和接口(包括自己)只解析一次，之后分发事件和查找粘性事件都直接使用缓存的结果。
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：同时缓存事件类型上标注的优先级 {@link EventPriority}
+ * <p>
+ * ======================================================================
+ */
+final class EventTypeCache {
+    private static final ConcurrentHashMap<Class<?>, Class<?>[]> HIERARCHY_CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, Integer> PRIORITY_CACHE = new ConcurrentHashMap<>();
+
+    private EventTypeCache() {
+    }
+
+    /**
+     * 获取事件类型自身、所有父类和所有接口，自身在第一个
+     *
+     * @param eventClass
+     * @return 不能修改返回的数组
+     */
+    static Class<?>[] hierarchy(Class<?> eventClass) {
+        Class<?>[] types = HIERARCHY_CACHE.get(eventClass);
+        if (types == null) {
+            Set<Class<?>> set = new LinkedHashSet<>();
+            for (Class<?> c = eventClass; c != null; c = c.getSuperclass()) {
+                set.add(c);
+                addInterfaces(set, c);
+            }
+            types = set.toArray(new Class<?>[set.size()]);
+            // 结果总是一样的，并发时谁先放入都可以
+            Class<?>[] previous = HIERARCHY_CACHE.putIfAbsent(eventClass, types);
+            if (previous != null) {
+                types = previous;
+            }
+        }
+        return types;
+    }
+
+    /**
+     * 获取事件类型上标注的优先级
+     *
+     * @param eventClass
+     * @return 没有标注时返回 {@link EventPriority#NORMAL}
+     */
+    static int priority(Class<?> eventClass) {
+        Integer priority = PRIORITY_CACHE.get(eventClass);
+        if (priority == null) {
+            EventPriority annotation = eventClass.getAnnotation(EventPriority.class);
+            priority = annotation == null ? EventPriority.NORMAL : checkPriority(annotation.value());
+            PRIORITY_CACHE.put(eventClass, priority);
+        }
+        return priority;
+    }
+
+    static int checkPriority(int priority) {
+        if (priority < EventPriority.HIGH || priority > EventPriority.LOW) {
+            throw new IllegalArgumentException("priority must be EventPriority.HIGH, NORMAL or LOW but it was " + priority);
+        }
+        return priority;
+    }
+
+    private static void addInterfaces(Set<Class<?>> set, Class<?> c) {
+        for (Class<?> i : c.getInterfaces()) {
+            if (set.add(i)) {
+                addInterfaces(set, i);
+            }
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.concurrent.TimeUnit;
 
@@ -36,6 +37,8 @@ import io.reactivex.functions.Predicate;
  * ======================================================================
  */
 public class FilterOperator {
+    private static final NamedLogger LOG = Logger.forClass(FilterOperator.class);
+
     /**
      * 操作符：filter() 操作符<br/>
      * 说明：过滤掉没有通过谓词测试的数据项，只发射通过测试的
@@ -51,7 +54,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("filter operator result => " + integer);
+                        LOG.i("filter operator result => " + integer);
                     }
                 });
     }
@@ -66,7 +69,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("distinct operator result => " + integer);
+                        LOG.i("distinct operator result => " + integer);
                     }
                 });
     }
@@ -81,7 +84,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("elementAt operator result => " + integer);
+                        LOG.i("elementAt operator result => " + integer);
                     }
                 });
     }
@@ -103,7 +106,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("debounce operator result => " + integer);
+                        LOG.i("debounce operator result => " + integer);
                     }
                 });
     }
@@ -130,12 +133,12 @@ public class FilterOperator {
                 .subscribe(new Action() {
                     @Override
                     public void run() throws Exception {
-                        Logger.i("ignoreElements operator onComplete()");
+                        LOG.i("ignoreElements operator onComplete()");
                     }
                 }, new Consumer<Throwable>() {
                     @Override
                     public void accept(Throwable throwable) throws Exception {
-                        Logger.e("ignoreElements operator onError()");
+                        LOG.e("ignoreElements operator onError()");
                     }
                 });
     }
@@ -155,17 +158,17 @@ public class FilterOperator {
 
                     @Override
                     public void onNext(Integer integer) {
-                        Logger.i("Thread " + Thread.currentThread() + "; sample operator result => " + integer);
+                        LOG.i("Thread " + Thread.currentThread() + "; sample operator result => " + integer);
                     }
 
                     @Override
                     public void onError(Throwable e) {
-                        Logger.i("Thread " + Thread.currentThread() + "; sample operator onError => " + e);
+                        LOG.i("Thread " + Thread.currentThread() + "; sample operator onError => " + e);
                     }
 
                     @Override
                     public void onComplete() {
-                        Logger.i("Thread " + Thread.currentThread() + "; sample operator onComplete ");
+                        LOG.i("Thread " + Thread.currentThread() + "; sample operator onComplete ");
                     }
                 });
     }
@@ -181,7 +184,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("first operator result => " + integer);
+                        LOG.i("first operator result => " + integer);
                     }
                 });
 
@@ -189,7 +192,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("firstElement operator result => " + integer);
+                        LOG.i("firstElement operator result => " + integer);
                     }
                 });
     }
@@ -205,7 +208,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("last operator result => " + integer);
+                        LOG.i("last operator result => " + integer);
                     }
                 });
 
@@ -213,7 +216,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("lastElement operator result => " + integer);
+                        LOG.i("lastElement operator result => " + integer);
                     }
                 });
     }
@@ -230,7 +233,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("Thread: " + Thread.currentThread() + " ;skip operator result => " + integer);
+                        LOG.i("Thread: " + Thread.currentThread() + " ;skip operator result => " + integer);
                     }
                 });
 
@@ -239,7 +242,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("Thread: " + Thread.currentThread() + " ;skipLast operator result => " + integer);
+                        LOG.i("Thread: " + Thread.currentThread() + " ;skipLast operator result => " + integer);
                     }
                 });
     }
@@ -256,7 +259,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("Thread: " + Thread.currentThread() + " ;take operator result => " + integer);
+                        LOG.i("Thread: " + Thread.currentThread() + " ;take operator result => " + integer);
                     }
                 });
 
@@ -265,7 +268,7 @@ public class FilterOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("Thread: " + Thread.currentThread() + " ;takeLast operator result => " + integer);
+                        LOG.i("Thread: " + Thread.currentThread() + " ;takeLast operator result => " + integer);
                     }
                 });
     }
@@ -0,0 +1,324 @@
+package com.renj.rxjavaoperator.operator;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   23:15
+ * <p>
+ * 描述：发射 {@code int} 的数据源，{@link #map(IntMapper)}、{@link #filter(IntPredicate)} 之间直接传递 {@code int}，
+ * 只有在转换为普通的 Observable({@link #boxed()})或规约的结果({@link #reduce(int, IntReducer)})时才装箱。<br/>
+ * 用来代替 {@code Observable.range(start, count).map(...).filter(...)}，后者每个数据、每一级都会创建 Integer 对象。
+ * <p>
+ * <code>IntObservable.range(0, 1000000).filter(even).map(square).reduce(0, sum)</code>
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public abstract class IntObservable {
+    IntObservable() {
+    }
+
+    /**
+     * 同步发射从 start 开始的 count 个整数，和 {@link Observable#range(int, int)} 相同
+     *
+     * @param start
+     * @param count
+     * @return
+     */
+    public static IntObservable range(final int start, final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if ((long) start + count - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Integer overflow");
+        }
+        return new IntObservable() {
+            @Override
+            void subscribe(IntSink sink) {
+                int end = start + count;
+                for (int i = start; i != end && !sink.isDisposed(); i++) {
+                    sink.onNext(i);
+                }
+                if (!sink.isDisposed()) {
+                    sink.onComplete();
+                }
+            }
+        };
+    }
+
+    /**
+     * 对每个数据应用函数，不装箱
+     *
+     * @param mapper
+     * @return
+     */
+    public final IntObservable map(final IntMapper mapper) {
+        final IntObservable source = this;
+        return new IntObservable() {
+            @Override
+            void subscribe(final IntSink downstream) {
+                source.subscribe(new IntStage(downstream) {
+                    @Override
+                    public void onNext(int value) {
+                        if (done) {
+                            return;
+                        }
+                        int result;
+                        try {
+                            result = mapper.apply(value);
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                        downstream.onNext(result);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * 只发射通过测试的数据，不装箱
+     *
+     * @param predicate
+     * @return
+     */
+    public final IntObservable filter(final IntPredicate predicate) {
+        final IntObservable source = this;
+        return new IntObservable() {
+            @Override
+            void subscribe(final IntSink downstream) {
+                source.subscribe(new IntStage(downstream) {
+                    @Override
+                    public void onNext(int value) {
+                        if (done) {
+                            return;
+                        }
+                        boolean pass;
+                        try {
+                            pass = predicate.test(value);
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                        if (pass) {
+                            downstream.onNext(value);
+                        }
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * 用 int 累加所有数据，完成时只装箱一次
+     *
+     * @param seed    初始值
+     * @param reducer
+     * @return
+     */
+    public final Single<Integer> reduce(final int seed, final IntReducer reducer) {
+        final IntObservable source = this;
+        return new Single<Integer>() {
+            @Override
+            protected void subscribeActual(SingleObserver<? super Integer> observer) {
+                ReduceSink sink = new ReduceSink(observer, seed, reducer);
+                observer.onSubscribe(sink);
+                source.subscribe(sink);
+            }
+        };
+    }
+
+    /**
+     * 转换为普通的 Observable，在这里装箱
+     *
+     * @return
+     */
+    public final Observable<Integer> boxed() {
+        final IntObservable source = this;
+        return new Observable<Integer>() {
+            @Override
+            protected void subscribeActual(Observer<? super Integer> observer) {
+                BoxedSink sink = new BoxedSink(observer);
+                observer.onSubscribe(sink);
+                source.subscribe(sink);
+            }
+        };
+    }
+
+    /**
+     * 把数据发给 sink，由 sink.isDisposed() 判断是否停止
+     */
+    abstract void subscribe(IntSink sink);
+
+    /**
+     * int 变换函数
+     */
+    public interface IntMapper {
+        int apply(int value) throws Exception;
+    }
+
+    /**
+     * int 测试函数
+     */
+    public interface IntPredicate {
+        boolean test(int value) throws Exception;
+    }
+
+    /**
+     * int 累加函数
+     */
+    public interface IntReducer {
+        int apply(int accumulator, int value) throws Exception;
+    }
+
+    /**
+     * 管道中的一级，接收 int 数据
+     */
+    interface IntSink {
+        /**
+         * 数据源有需要取消的资源时调用，同步数据源不调用
+         */
+        void onSubscribe(Disposable d);
+
+        void onNext(int value);
+
+        void onError(Throwable e);
+
+        void onComplete();
+
+        boolean isDisposed();
+    }
+
+    /**
+     * map/filter 的公共部分：函数出错时停止接收并向下游发出 onError，下游会取消数据源
+     */
+    abstract static class IntStage implements IntSink {
+        final IntSink downstream;
+        boolean done;
+
+        IntStage(IntSink downstream) {
+            this.downstream = downstream;
+        }
+
+        final void fail(Throwable e) {
+            Exceptions.throwIfFatal(e);
+            done = true;
+            downstream.onError(e);
+        }
+
+        @Override
+        public final void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public final void onError(Throwable e) {
+            if (!done) {
+                done = true;
+                downstream.onError(e);
+            }
+        }
+
+        @Override
+        public final void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public final boolean isDisposed() {
+            return done || downstream.isDisposed();
+        }
+    }
+
+    static final class BoxedSink extends PrimitiveTerminal implements IntSink {
+        private final Observer<? super Integer> actual;
+
+        BoxedSink(Observer<? super Integer> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setUpstream(d);
+        }
+
+        @Override
+        public void onNext(int value) {
+            if (!isDisposed()) {
+                actual.onNext(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (terminate()) {
+                actual.onError(e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (terminate()) {
+                actual.onComplete();
+            }
+        }
+    }
+
+    static final class ReduceSink extends PrimitiveTerminal implements IntSink {
+        private final SingleObserver<? super Integer> actual;
+        private final IntReducer reducer;
+        private int accumulator;
+
+        ReduceSink(SingleObserver<? super Integer> actual, int seed, IntReducer reducer) {
+            this.actual = actual;
+            this.accumulator = seed;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setUpstream(d);
+        }
+
+        @Override
+        public void onNext(int value) {
+            if (isDisposed()) {
+                return;
+            }
+            try {
+                accumulator = reducer.apply(accumulator, value);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (terminate()) {
+                actual.onError(e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (terminate()) {
+                actual.onSuccess(accumulator);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   14:00
+ * <p>
+ * 描述：延迟直方图(单位纳秒)，参考 HdrHistogram 的对数-线性分桶。<br/>
+ * 每个 2 的幂区间分为 32 个桶，相对误差约 3%；所有桶在创建时分配好，记录时不创建任何对象，可以在多个线程中同时记录。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // 最大值 Long.MAX_VALUE 所在桶的下标 + 1
+    private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray mCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong mTotalCount = new AtomicLong();
+    private final AtomicLong mTotalValue = new AtomicLong();
+    private final AtomicLong mMaxValue = new AtomicLong();
+
+    /**
+     * 记录一个值
+     *
+     * @param nanos 小于 0 时按 0 记录
+     */
+    public void record(long nanos) {
+        long value = nanos < 0 ? 0 : nanos;
+        mCounts.incrementAndGet(bucketIndex(value));
+        mTotalCount.incrementAndGet();
+        mTotalValue.addAndGet(value);
+        for (; ; ) {
+            long max = mMaxValue.get();
+            if (value <= max || mMaxValue.compareAndSet(max, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 记录的总个数
+     *
+     * @return
+     */
+    public long getCount() {
+        return mTotalCount.get();
+    }
+
+    /**
+     * 平均值
+     *
+     * @return 没有记录时返回 0
+     */
+    public double getMean() {
+        long count = mTotalCount.get();
+        return count == 0 ? 0 : (double) mTotalValue.get() / count;
+    }
+
+    /**
+     * 最大值
+     *
+     * @return
+     */
+    public long getMax() {
+        return mMaxValue.get();
+    }
+
+    /**
+     * 获取百分位值，如 {@code getValueAtPercentile(99)} 获取 P99
+     *
+     * @param percentile 0 ~ 100
+     * @return 所在桶的下限，没有记录时返回 0
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = mTotalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += mCounts.get(i);
+            if (seen >= target) {
+                return Math.min(bucketValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * 清除所有记录
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mCounts.set(i, 0);
+        }
+        mTotalCount.set(0);
+        mTotalValue.set(0);
+        mMaxValue.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount() + ", mean=" + (long) getMean()
+                + "ns, p50=" + getValueAtPercentile(50) + "ns, p99=" + getValueAtPercentile(99)
+                + "ns, max=" + getMax() + "ns}";
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long bucketValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+    }
+}
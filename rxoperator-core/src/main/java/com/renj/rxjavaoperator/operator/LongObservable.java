@@ -0,0 +1,421 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   23:25
+ * <p>
+ * 描述：发射 {@code long} 的数据源，和 {@link IntObservable} 相同，各级之间直接传递 {@code long}，
+ * 只有在 {@link #boxed()} 或 {@link #reduce(long, LongReducer)} 的结果中才装箱。<br/>
+ * 用来代替 {@code Observable.interval()}/{@code Observable.intervalRange()} 作为计数器或 id 生成器，后者每次都会创建 Long 对象。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public abstract class LongObservable {
+    LongObservable() {
+    }
+
+    /**
+     * 同步发射从 start 开始的 count 个整数，和 {@link Observable#rangeLong(long, long)} 相同
+     *
+     * @param start
+     * @param count
+     * @return
+     */
+    public static LongObservable range(final long start, final long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if (start > 0 && start - 1 + count < 0) {
+            throw new IllegalArgumentException("Overflow! start + count is bigger than Long.MAX_VALUE");
+        }
+        return new LongObservable() {
+            @Override
+            void subscribe(LongSink sink) {
+                long end = start + count;
+                for (long i = start; i != end && !sink.isDisposed(); i++) {
+                    sink.onNext(i);
+                }
+                if (!sink.isDisposed()) {
+                    sink.onComplete();
+                }
+            }
+        };
+    }
+
+    /**
+     * 在 computation 线程中每隔 period 发射一个整数，从 0 开始，和 {@link Observable#interval(long, long, TimeUnit)} 相同
+     *
+     * @param initialDelay 发射第一个数之前的延迟时间
+     * @param period
+     * @param unit
+     * @return
+     */
+    public static LongObservable interval(long initialDelay, long period, TimeUnit unit) {
+        return interval(initialDelay, period, unit, Schedulers.computation());
+    }
+
+    public static LongObservable interval(long initialDelay, long period, TimeUnit unit, Scheduler scheduler) {
+        if (scheduler == null) {
+            throw new NullPointerException("scheduler is null");
+        }
+        return new IntervalRange(0, Long.MAX_VALUE, initialDelay, period, unit, scheduler);
+    }
+
+    /**
+     * 在 computation 线程中每隔 period 发射一个整数，从 start 开始一共 count 个，
+     * 和 {@link Observable#intervalRange(long, long, long, long, TimeUnit)} 相同
+     *
+     * @param start
+     * @param count
+     * @param initialDelay 发射第一个数之前的延迟时间
+     * @param period
+     * @param unit
+     * @return
+     */
+    public static LongObservable intervalRange(long start, long count, long initialDelay, long period, TimeUnit unit) {
+        return intervalRange(start, count, initialDelay, period, unit, Schedulers.computation());
+    }
+
+    public static LongObservable intervalRange(long start, long count, long initialDelay, long period,
+                                               TimeUnit unit, Scheduler scheduler) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if (start > 0 && start - 1 + count < 0) {
+            throw new IllegalArgumentException("Overflow! start + count is bigger than Long.MAX_VALUE");
+        }
+        if (scheduler == null) {
+            throw new NullPointerException("scheduler is null");
+        }
+        return new IntervalRange(start, count, initialDelay, period, unit, scheduler);
+    }
+
+    /**
+     * 对每个数据应用函数，不装箱
+     *
+     * @param mapper
+     * @return
+     */
+    public final LongObservable map(final LongMapper mapper) {
+        final LongObservable source = this;
+        return new LongObservable() {
+            @Override
+            void subscribe(final LongSink downstream) {
+                source.subscribe(new LongStage(downstream) {
+                    @Override
+                    public void onNext(long value) {
+                        if (done) {
+                            return;
+                        }
+                        long result;
+                        try {
+                            result = mapper.apply(value);
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                        downstream.onNext(result);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * 只发射通过测试的数据，不装箱
+     *
+     * @param predicate
+     * @return
+     */
+    public final LongObservable filter(final LongPredicate predicate) {
+        final LongObservable source = this;
+        return new LongObservable() {
+            @Override
+            void subscribe(final LongSink downstream) {
+                source.subscribe(new LongStage(downstream) {
+                    @Override
+                    public void onNext(long value) {
+                        if (done) {
+                            return;
+                        }
+                        boolean pass;
+                        try {
+                            pass = predicate.test(value);
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                        if (pass) {
+                            downstream.onNext(value);
+                        }
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * 用 long 累加所有数据，完成时只装箱一次
+     *
+     * @param seed    初始值
+     * @param reducer
+     * @return
+     */
+    public final Single<Long> reduce(final long seed, final LongReducer reducer) {
+        final LongObservable source = this;
+        return new Single<Long>() {
+            @Override
+            protected void subscribeActual(SingleObserver<? super Long> observer) {
+                ReduceSink sink = new ReduceSink(observer, seed, reducer);
+                observer.onSubscribe(sink);
+                source.subscribe(sink);
+            }
+        };
+    }
+
+    /**
+     * 转换为普通的 Observable，在这里装箱
+     *
+     * @return
+     */
+    public final Observable<Long> boxed() {
+        final LongObservable source = this;
+        return new Observable<Long>() {
+            @Override
+            protected void subscribeActual(Observer<? super Long> observer) {
+                BoxedSink sink = new BoxedSink(observer);
+                observer.onSubscribe(sink);
+                source.subscribe(sink);
+            }
+        };
+    }
+
+    /**
+     * 把数据发给 sink，由 sink.isDisposed() 判断是否停止
+     */
+    abstract void subscribe(LongSink sink);
+
+    /**
+     * long 变换函数
+     */
+    public interface LongMapper {
+        long apply(long value) throws Exception;
+    }
+
+    /**
+     * long 测试函数
+     */
+    public interface LongPredicate {
+        boolean test(long value) throws Exception;
+    }
+
+    /**
+     * long 累加函数
+     */
+    public interface LongReducer {
+        long apply(long accumulator, long value) throws Exception;
+    }
+
+    /**
+     * 管道中的一级，接收 long 数据
+     */
+    interface LongSink {
+        /**
+         * 数据源有需要取消的资源时调用，同步数据源不调用
+         */
+        void onSubscribe(Disposable d);
+
+        void onNext(long value);
+
+        void onError(Throwable e);
+
+        void onComplete();
+
+        boolean isDisposed();
+    }
+
+    /**
+     * map/filter 的公共部分：函数出错时停止接收并向下游发出 onError，下游会取消数据源
+     */
+    abstract static class LongStage implements LongSink {
+        final LongSink downstream;
+        boolean done;
+
+        LongStage(LongSink downstream) {
+            this.downstream = downstream;
+        }
+
+        final void fail(Throwable e) {
+            Exceptions.throwIfFatal(e);
+            done = true;
+            downstream.onError(e);
+        }
+
+        @Override
+        public final void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public final void onError(Throwable e) {
+            if (!done) {
+                done = true;
+                downstream.onError(e);
+            }
+        }
+
+        @Override
+        public final void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public final boolean isDisposed() {
+            return done || downstream.isDisposed();
+        }
+    }
+
+    /**
+     * 定时发射，每次执行只发射一个数，发完 count 个后完成并取消定时任务
+     */
+    static final class IntervalRange extends LongObservable {
+        private final long start;
+        private final long count;
+        private final long initialDelay;
+        private final long period;
+        private final TimeUnit unit;
+        private final Scheduler scheduler;
+
+        IntervalRange(long start, long count, long initialDelay, long period, TimeUnit unit, Scheduler scheduler) {
+            this.start = start;
+            this.count = count;
+            this.initialDelay = initialDelay;
+            this.period = period;
+            this.unit = unit;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        void subscribe(final LongSink sink) {
+            if (count == 0) {
+                sink.onComplete();
+                return;
+            }
+            final long last = start + count - 1;
+            sink.onSubscribe(scheduler.schedulePeriodicallyDirect(new Runnable() {
+                long next = start;
+
+                @Override
+                public void run() {
+                    if (sink.isDisposed()) {
+                        return;
+                    }
+                    long value = next;
+                    sink.onNext(value);
+                    if (value == last) {
+                        sink.onComplete();
+                    } else {
+                        next = value + 1;
+                    }
+                }
+            }, initialDelay, period, unit));
+        }
+    }
+
+    static final class BoxedSink extends PrimitiveTerminal implements LongSink {
+        private final Observer<? super Long> actual;
+
+        BoxedSink(Observer<? super Long> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setUpstream(d);
+        }
+
+        @Override
+        public void onNext(long value) {
+            if (!isDisposed()) {
+                actual.onNext(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (terminate()) {
+                actual.onError(e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (terminate()) {
+                actual.onComplete();
+            }
+        }
+    }
+
+    static final class ReduceSink extends PrimitiveTerminal implements LongSink {
+        private final SingleObserver<? super Long> actual;
+        private final LongReducer reducer;
+        private long accumulator;
+
+        ReduceSink(SingleObserver<? super Long> actual, long seed, LongReducer reducer) {
+            this.actual = actual;
+            this.accumulator = seed;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setUpstream(d);
+        }
+
+        @Override
+        public void onNext(long value) {
+            if (isDisposed()) {
+                return;
+            }
+            try {
+                accumulator = reducer.apply(accumulator, value);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (terminate()) {
+                actual.onError(e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (terminate()) {
+                actual.onSuccess(accumulator);
+            }
+        }
+    }
+}
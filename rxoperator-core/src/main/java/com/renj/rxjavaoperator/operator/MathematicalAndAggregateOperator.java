@@ -2,6 +2,7 @@ package com.renj.rxjavaoperator.operator;
 
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.concurrent.Callable;
 
@@ -17,11 +18,11 @@ import io.reactivex.functions.Consumer;
  * 创建时间：2017-12-08   9:33
  * <p>
  * 描述：RxJava2操作符之算术和聚合操作符。包含：<br/>
- * 【 {@code count()} 操作符 {@link #countOperator()} 】、【 {@code concat()} 操作符 {@link CombinationOperator#concatOperator()} 】、
+ * 【 {@code count()} 操作符 {@link #countOperator()} 】、【 {@code concat()} 操作符 {@code CombinationOperator.concatOperator()} 】、
  * 【 {@code reduce()} 操作符 {@link TransformOperator#reduceOperator()} 】、【 {@code collect()}/{@code collectInto()} 操作符 {@link #collectOperator()} 】<br/><br/>
  * <b>注：</b>
  * <br/>&nbsp;&nbsp;&nbsp;&nbsp;
- * {@code concat()} 操作符查看 {@link CombinationOperator} 类中的 {@link CombinationOperator#concatOperator()} 方法
+ * {@code concat()} 操作符查看 app 模块 {@code CombinationOperator} 类中的 {@code concatOperator()} 方法
  * <br/>&nbsp;&nbsp;&nbsp;&nbsp;
  * {@code reduce()} 操作符查看 {@link TransformOperator} 类中的 {@link TransformOperator#reduceOperator()} 方法
  * <br/><br/>
@@ -32,6 +33,8 @@ import io.reactivex.functions.Consumer;
  * ======================================================================
  */
 public class MathematicalAndAggregateOperator {
+    private static final NamedLogger LOG = Logger.forClass(MathematicalAndAggregateOperator.class);
+
     /**
      * 操作符：count() 操作符<br/>
      * 说明：Count 操作符用来统计源 Observable 发射了多少个数据，最后将数目给发射出来；<br/>
@@ -43,7 +46,7 @@ public class MathematicalAndAggregateOperator {
                 .subscribe(new Consumer<Long>() {
                     @Override
                     public void accept(Long aLong) throws Exception {
-                        Logger.i("count operator result => " + aLong);
+                        LOG.i("count operator result => " + aLong);
                     }
                 });
     }
@@ -66,12 +69,12 @@ public class MathematicalAndAggregateOperator {
         }, new BiConsumer<Integer, Integer>() {
             @Override
             public void accept(Integer integer, Integer integer2) throws Exception {
-                Logger.i("collect second params => integer: " + integer + " ; integer2: " + integer2);
+                LOG.i("collect second params => integer: " + integer + " ; integer2: " + integer2);
             }
         }).subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("collect operator result => " + integer);
+                LOG.i("collect operator result => " + integer);
             }
         });
 
@@ -79,12 +82,12 @@ public class MathematicalAndAggregateOperator {
         observable.collectInto(0, new BiConsumer<Integer, Integer>() {
             @Override
             public void accept(Integer integer, Integer integer2) throws Exception {
-                Logger.i("collectInto second params => integer: " + integer + " ; integer2: " + integer2);
+                LOG.i("collectInto second params => integer: " + integer + " ; integer2: " + integer2);
             }
         }).subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("collectInto operator result => " + integer);
+                LOG.i("collectInto operator result => " + integer);
             }
         });
     }
@@ -0,0 +1,146 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   15:45
+ * <p>
+ * 描述：合并订阅，在指定的线程中把事件发给订阅者。<br/>
+ * 事件先放到订阅者自己的待处理集合中(按 key 保存)，订阅者还没有处理的事件如果又来了 key 相同的新事件，直接替换；
+ * 所以突发大量事件时，订阅者只处理每个 key 最新的事件。key 的顺序按第一次进入待处理集合的先后。
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：{@link ConflatingEvent#conflationKey()} 返回 null 时按事件类型合并<br/>
+ * ======================================================================
+ */
+final class ObservableConflate extends Observable<Object> {
+    private final ObservableSource<Object> mSource;
+    private final Scheduler mScheduler;
+
+    ObservableConflate(ObservableSource<Object> source, Scheduler scheduler) {
+        this.mSource = source;
+        this.mScheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Object> observer) {
+        mSource.subscribe(new ConflateObserver(observer, mScheduler.createWorker()));
+    }
+
+    static final class ConflateObserver extends AtomicInteger implements Observer<Object>, Disposable, Runnable {
+        private static final long serialVersionUID = -1491183941877122480L;
+
+        private final Observer<? super Object> actual;
+        private final Scheduler.Worker worker;
+        // key -> 还没有处理的最新事件
+        private final ConcurrentHashMap<Object, Object> pending = new ConcurrentHashMap<>();
+        // 待处理的 key，按进入的先后
+        private final Queue<Object> keys = new ConcurrentLinkedQueue<>();
+        private Disposable upstream;
+        private volatile boolean disposed;
+        private volatile boolean done;
+        private Throwable error;
+
+        ConflateObserver(Observer<? super Object> actual, Scheduler.Worker worker) {
+            this.actual = actual;
+            this.worker = worker;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            actual.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(Object event) {
+            Object key = event instanceof ConflatingEvent ? ((ConflatingEvent) event).conflationKey() : null;
+            if (key == null) {
+                key = event.getClass();
+            }
+            // 没有待处理的同 key 事件时才入队，否则只是替换
+            if (pending.put(key, event) == null) {
+                keys.offer(key);
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                upstream.dispose();
+                worker.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                worker.schedule(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (; ; ) {
+                Object key;
+                while ((key = keys.poll()) != null) {
+                    if (disposed) {
+                        return;
+                    }
+                    Object event = pending.remove(key);
+                    if (event != null) {
+                        actual.onNext(event);
+                    }
+                }
+                if (done && !disposed) {
+                    disposed = true;
+                    worker.dispose();
+                    if (error != null) {
+                        actual.onError(error);
+                    } else {
+                        actual.onComplete();
+                    }
+                    return;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+}
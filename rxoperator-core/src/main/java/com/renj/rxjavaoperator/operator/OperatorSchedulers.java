@@ -0,0 +1,64 @@
+package com.renj.rxjavaoperator.operator;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   23:50
+ * <p>
+ * 描述：操作符演示中切换到"主线程"使用的调度器。<br/>
+ * 在 Android 中运行时默认为 {@code AndroidSchedulers.mainThread()}，在 JVM 中没有主线程，默认为 {@link Schedulers#single()}；
+ * 也可以通过 {@link #setMainThread(Scheduler)} 指定
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public final class OperatorSchedulers {
+    private static volatile Scheduler sMainThread;
+
+    private OperatorSchedulers() {
+    }
+
+    /**
+     * 演示中 {@code observeOn()} 使用的"主线程"调度器
+     *
+     * @return
+     */
+    public static Scheduler mainThread() {
+        Scheduler scheduler = sMainThread;
+        if (scheduler == null) {
+            scheduler = defaultMainThread();
+            sMainThread = scheduler;
+        }
+        return scheduler;
+    }
+
+    /**
+     * 指定"主线程"调度器
+     *
+     * @param scheduler 为 null 时恢复默认值
+     */
+    public static void setMainThread(Scheduler scheduler) {
+        sMainThread = scheduler;
+    }
+
+    /**
+     * 在 Android 中运行时通过反射获取 {@code AndroidSchedulers.mainThread()}，rxoperator-core 不依赖 RxAndroid
+     */
+    private static Scheduler defaultMainThread() {
+        if ("Dalvik".equals(System.getProperty("java.vm.name"))) {
+            try {
+                return (Scheduler) Class.forName("io.reactivex.android.schedulers.AndroidSchedulers")
+                        .getMethod("mainThread").invoke(null);
+            } catch (Exception ignored) {
+                // 没有 RxAndroid 时使用单线程调度器
+            }
+        }
+        return Schedulers.single();
+    }
+}
@@ -0,0 +1,62 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.disposables.Disposable;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   23:10
+ * <p>
+ * 描述：{@link IntObservable}、{@link LongObservable} 管道最后一级(装箱发给 Observer 或规约)共用的取消逻辑。<br/>
+ * 数据源有需要取消的资源(如定时任务)时通过 {@link #setUpstream(Disposable)} 交给这里，结束或取消时一起取消
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+abstract class PrimitiveTerminal implements Disposable {
+    private final AtomicReference<Disposable> mUpstream = new AtomicReference<>();
+    private final AtomicBoolean mDisposed = new AtomicBoolean();
+
+    /**
+     * 数据源的资源可能在结束之后才设置进来(例如定时任务先执行完了)，这时直接取消
+     */
+    final void setUpstream(Disposable d) {
+        mUpstream.set(d);
+        if (mDisposed.get()) {
+            d.dispose();
+        }
+    }
+
+    /**
+     * 标记为结束并取消数据源
+     *
+     * @return 第一次调用时返回 true，调用者负责发出 onError/onComplete
+     */
+    final boolean terminate() {
+        // 数据源线程结束和下游取消可能同时发生，只能有一个成功
+        if (!mDisposed.compareAndSet(false, true)) {
+            return false;
+        }
+        Disposable d = mUpstream.get();
+        if (d != null) {
+            d.dispose();
+        }
+        return true;
+    }
+
+    @Override
+    public final void dispose() {
+        terminate();
+    }
+
+    @Override
+    public final boolean isDisposed() {
+        return mDisposed.get();
+    }
+}
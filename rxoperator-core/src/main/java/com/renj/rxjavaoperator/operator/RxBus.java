@@ -0,0 +1,808 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Consumer;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2017-12-11   14:55
+ * <p>
+ * 描述：RxBus 类，利用 RxBus 替换 EventBus 类<br/><br/>
+ * 使用：<br/>
+ * <pre>
+ *  发送端：
+ *  <code>RxBus.newInstance().post("aaa");</code><br/>
+ *  接受端：
+ *  <code>Disposable subscribe = RxBus.newInstance().tObservable(String.class).subscribe(new Consumer<String>() {</code>
+ *      <code>@Override</code>
+ *      <code>public void accept(String s) throws Exception {</code>
+ *          <code>// 处理结果</code>
+ *          <code>// ...</code>
+ *      <code>}</code>
+ *  <code>});</code><br/>
+ *  另外需要注意在<code>onDestroy()</code>方法中取消订阅：
+ *  <code>@Override</code>
+ *  <code>protected void onDestroy() {</code>
+ *      <code>super.onDestroy();</code>
+ *      <code>if (subscribe.isDisposed()) {</code>
+ *          <code>subscribe.dispose();</code>
+ *      <code>}</code>
+ *      <code>// 如果发送了粘性事件，需要清除所有的粘性事件</code>
+ *      <code>// RxBus.newInstance().clearStickyEvent();</code>
+ *  <code>}</code>
+ *  </pre>
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：不再使用单个 {@code PublishSubject} + {@code ofType()} 过滤，改为按事件类型分发到 {@link EventChannel}，
+ * 发送事件时只会通知订阅了该类型(或其父类型、接口)的订阅者<br/>
+ * 2026-10-18：增加分片模式 {@link #create(int)}，不同类型(或不同 key)的事件在不同的分片中串行化，多线程发送时互不竞争<br/>
+ * 2026-10-18：增加支持背压的订阅方式 {@link #tFlowable(Class, BusOverflowStrategy, int)}，处理慢的订阅者不会无限缓存事件<br/>
+ * 2026-10-18：增加批量发送 {@link #postAll(Collection)} 和批量订阅 {@link #tObservableBatched(Class)}<br/>
+ * 2026-10-18：粘性事件改为使用无锁的 {@link StickyEventStore} 保存，支持每种类型保留多个、过期时间和总数上限<br/>
+ * 2026-10-18：订阅粘性事件不再合并一个自定义的 Observable，订阅时发送的粘性事件不会丢失也不会重复<br/>
+ * 2026-10-18：事件类型的父类和接口只解析一次({@link EventTypeCache})，订阅父类型或接口时同样可以收到子类型的普通事件和粘性事件<br/>
+ * 2026-10-18：增加运行统计 {@link #setMetricsEnabled(boolean)}/{@link #getMetrics()}，默认关闭<br/>
+ * 2026-10-18：增加事件优先级 {@link EventPriority}/{@link #postPriority(Object, int)}，排队时高优先级的事件先分发<br/>
+ * 2026-10-18：增加合并订阅 {@link #tObservableConflated(Class, Scheduler)}，订阅者来不及处理时只处理最新的事件<br/>
+ * 2026-10-18：增加订阅作用域 {@link #newScope()}，作用域中的订阅被弱引用，可以一次取消，所有者被回收后自动清除<br/>
+ * 2026-10-18：增加跨进程桥接 {@link RxBusBridge}，发送的事件可以转发给本机其他进程的 RxBus<br/>
+ * 2026-10-18：增加事件日志 {@link RxBusJournal}，发送的事件可以记录到文件中，启动时重放<br/>
+ * 2026-10-18：增加内置分发线程池 {@link #tObservableAsync(Class)}，线程数固定，每个订阅者固定在一个线程中处理事件<br/>
+ * 2026-10-18：增加 {@link #shutdown()}，停止内置的分发线程池
+ * <p>
+ * ======================================================================
+ */
+public class RxBus {
+    private static final EventChannel[] NO_CHANNEL = new EventChannel[0];
+
+    public static volatile RxBus instance;
+    // 订阅类型 -> 事件通道
+    private final ConcurrentHashMap<Class<?>, EventChannel> mChannelMap;
+    // 事件类型 -> 需要分发的所有通道(包括父类型和接口的通道)，按需计算并缓存
+    private final ConcurrentHashMap<Class<?>, EventChannel[]> mDispatchCache;
+    // 订阅类型发生变化时加 1，用于判断计算出的分发缓存是否已经过期
+    private final AtomicInteger mChannelVersion;
+    // 每个事件通道的分片数
+    private final int mShardCount;
+    // 事件类型 -> Flowable 订阅者缓冲区溢出丢弃的事件数
+    private final ConcurrentHashMap<Class<?>, AtomicLong> mDroppedCountMap;
+    // 保存所有的粘性事件
+    private final StickyEventStore mStickyEventStore;
+    // 运行统计，没有开启时为 null
+    private volatile RxBusMetrics mMetrics;
+    // 作用域中被回收的订阅者
+    private final ReferenceQueue<Object> mCollectedQueue;
+    // 跨进程桥接，没有时为 null
+    private final AtomicReference<RxBusBridge> mBridge = new AtomicReference<>();
+    // 事件日志，没有时为 null
+    private final AtomicReference<RxBusJournal> mJournal = new AtomicReference<>();
+    // 内置的分发线程池，第一次使用时创建
+    private volatile DeliveryExecutor mDeliveryExecutor;
+    private volatile int mDeliveryWorkerCount = Runtime.getRuntime().availableProcessors();
+    // 调用过 shutdown()
+    private volatile boolean mShutdown;
+
+    private RxBus(int shardCount) {
+        mShardCount = shardCount;
+        mChannelMap = new ConcurrentHashMap<>();
+        mDispatchCache = new ConcurrentHashMap<>();
+        mChannelVersion = new AtomicInteger();
+        mDroppedCountMap = new ConcurrentHashMap<>();
+        mStickyEventStore = new StickyEventStore();
+        mCollectedQueue = new ReferenceQueue<>();
+    }
+
+    /**
+     * 获取RxBus实例
+     *
+     * @return
+     */
+    public static RxBus newInstance() {
+        if (instance == null) {
+            synchronized (RxBus.class) {
+                if (instance == null) {
+                    instance = new RxBus(1);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 创建一个分片的RxBus(不是单例)。<br/>
+     * 每个事件通道拆分为 shardCount 个独立串行化的分片，没有指定 key 时按事件类型选择分片，
+     * 指定了 key 时({@link #post(Object, Object)})按 key 选择分片，所以同一类型(或同一个 key)的事件保持发送顺序，
+     * 不同类型(或不同 key)的事件可以在多个线程中并行发送
+     *
+     * @param shardCount 分片数，一般设置为CPU核数
+     * @return
+     */
+    public static RxBus create(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount > 0 required but it was " + shardCount);
+        }
+        return new RxBus(shardCount);
+    }
+
+    /**
+     * 发送普通事件
+     *
+     * @param obj
+     */
+    public void post(Object obj) {
+        if (obj == null) {
+            throw new NullPointerException("event is null");
+        }
+        export(obj, false);
+        Class<?> eventClass = obj.getClass();
+        dispatch(eventClass, obj, eventClass.hashCode(), EventTypeCache.priority(eventClass));
+    }
+
+    /**
+     * 发送普通事件，并指定优先级(忽略事件类上标注的 {@link EventPriority})
+     *
+     * @param obj
+     * @param priority {@link EventPriority#HIGH}、{@link EventPriority#NORMAL} 或 {@link EventPriority#LOW}
+     */
+    public void postPriority(Object obj, int priority) {
+        if (obj == null) {
+            throw new NullPointerException("event is null");
+        }
+        export(obj, false);
+        Class<?> eventClass = obj.getClass();
+        dispatch(eventClass, obj, eventClass.hashCode(), EventTypeCache.checkPriority(priority));
+    }
+
+    /**
+     * 发送普通事件，并指定分片的 key，相同 key 的事件保持发送顺序。<br/>
+     * 只有通过 {@link #create(int)} 创建的分片RxBus才有意义，否则和 {@link #post(Object)} 一样
+     *
+     * @param key
+     * @param obj
+     */
+    public void post(Object key, Object obj) {
+        if (obj == null) {
+            throw new NullPointerException("event is null");
+        }
+        export(obj, false);
+        Class<?> eventClass = obj.getClass();
+        dispatch(eventClass, obj, key == null ? 0 : key.hashCode(), EventTypeCache.priority(eventClass));
+    }
+
+    /**
+     * 批量发送普通事件。<br/>
+     * 每个事件通道中的事件只入队一次，在一次分发中全部发送，比循环调用 {@link #post(Object)} 的开销小；
+     * 同一类型的事件保持集合中的顺序
+     *
+     * @param events
+     */
+    public void postAll(Collection<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        RxBusMetrics metrics = mMetrics;
+        Map<EventChannel, List<Object>> batches = new IdentityHashMap<>();
+        Class<?> lastClass = null;
+        EventChannel[] channels = NO_CHANNEL;
+        for (Object event : events) {
+            if (event == null) {
+                throw new NullPointerException("event is null");
+            }
+            Class<?> eventClass = event.getClass();
+            // 批量事件大多是同一类型，类型相同时不需要重新查找通道
+            if (eventClass != lastClass) {
+                channels = dispatchChannels(eventClass);
+                lastClass = eventClass;
+            }
+            if (metrics != null) {
+                metrics.onPost(eventClass);
+            }
+            export(event, false);
+            for (EventChannel channel : channels) {
+                List<Object> batch = batches.get(channel);
+                if (batch == null) {
+                    batch = new ArrayList<>(events.size());
+                    batches.put(channel, batch);
+                }
+                batch.add(event);
+            }
+        }
+        purgeCollected();
+        for (Map.Entry<EventChannel, List<Object>> entry : batches.entrySet()) {
+            entry.getKey().offerAll(entry.getValue(), metrics);
+        }
+    }
+
+    /**
+     * 批量发送普通事件
+     *
+     * @param events
+     * @see #postAll(Collection)
+     */
+    public void postAll(Object... events) {
+        postAll(Arrays.asList(events));
+    }
+
+    /**
+     * 订阅普通事件
+     *
+     * @param tClass
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Observable<T> tObservable(Class<T> tClass) {
+        // 通道中只会有 tClass 类型的事件，直接强转即可
+        return (Observable<T>) (Observable<?>) channel(tClass);
+    }
+
+    /**
+     * 批量订阅普通事件，每次收到一批事件。<br/>
+     * {@link #postAll(Collection)} 发送的事件作为一批收到；{@link #post(Object)} 发送的事件，
+     * 在同一次分发中的会合并为一批。收到的 {@code List} 不能修改
+     *
+     * @param tClass
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Observable<List<T>> tObservableBatched(Class<T> tClass) {
+        return (Observable<List<T>>) (Observable<?>) channel(tClass).batches();
+    }
+
+    /**
+     * 合并订阅普通事件，在 scheduler 中收到事件。<br/>
+     * 适用于只关心最新状态的事件：订阅者还没有处理的事件，如果又发送了同类型(或实现了 {@link ConflatingEvent} 且 key 相同)的新事件，
+     * 旧事件直接被替换，订阅者只处理最新的一个
+     *
+     * @param tClass
+     * @param scheduler 订阅者处理事件的线程
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Observable<T> tObservableConflated(Class<T> tClass, Scheduler scheduler) {
+        return (Observable<T>) (Observable<?>) new ObservableConflate(channel(tClass), scheduler);
+    }
+
+    /**
+     * 订阅普通事件，在内置的分发线程池中收到事件。<br/>
+     * 每个订阅者固定分配到线程池中的一个线程，所有事件都在这个线程中按发送顺序处理；
+     * 和每个订阅者各自使用 {@code observeOn()} 相比，一次发送只会用到固定数量的线程
+     *
+     * @param tClass
+     * @param <T>
+     * @return
+     * @see #setDeliveryWorkerCount(int)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Observable<T> tObservableAsync(Class<T> tClass) {
+        return (Observable<T>) (Observable<?>) deliveryExecutor().deliver(channel(tClass));
+    }
+
+    /**
+     * 设置内置分发线程池的线程数，默认为CPU核数。需要在第一次调用 {@link #tObservableAsync(Class)} 之前设置
+     *
+     * @param workerCount
+     */
+    public void setDeliveryWorkerCount(int workerCount) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount > 0 required but it was " + workerCount);
+        }
+        if (mDeliveryExecutor != null) {
+            throw new IllegalStateException("delivery executor has already been created");
+        }
+        mDeliveryWorkerCount = workerCount;
+    }
+
+    /**
+     * 停止内置的分发线程池，不再需要这个 RxBus 时调用。<br/>
+     * 已经排队的事件处理完后线程退出，{@link #tObservableAsync(Class)} 的订阅者不再收到事件，
+     * 之后也不能再调用 {@link #tObservableAsync(Class)}；其他方式的订阅不受影响
+     */
+    public void shutdown() {
+        DeliveryExecutor executor;
+        synchronized (this) {
+            mShutdown = true;
+            executor = mDeliveryExecutor;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link #shutdown()} 之后等待分发线程全部退出
+     *
+     * @param timeout
+     * @param unit
+     * @return 超时之前全部退出(或者没有创建过线程池)时返回 true
+     * @throws InterruptedException
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        DeliveryExecutor executor = mDeliveryExecutor;
+        return executor == null || executor.awaitTermination(timeout, unit);
+    }
+
+    private DeliveryExecutor deliveryExecutor() {
+        if (mShutdown) {
+            throw new IllegalStateException("RxBus has been shut down");
+        }
+        DeliveryExecutor executor = mDeliveryExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (mShutdown) {
+                    throw new IllegalStateException("RxBus has been shut down");
+                }
+                executor = mDeliveryExecutor;
+                if (executor == null) {
+                    executor = new DeliveryExecutor(mDeliveryWorkerCount);
+                    mDeliveryExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 创建一个订阅作用域，作用域中的订阅可以一次取消，作用域被回收后自动清除，见 {@link RxBusScope}
+     *
+     * @return
+     */
+    public RxBusScope newScope() {
+        return new RxBusScope(this, mCollectedQueue);
+    }
+
+    /**
+     * 订阅普通事件，支持背压，缓冲区大小为 {@link Flowable#bufferSize()}
+     *
+     * @param tClass
+     * @param strategy 缓冲区满了之后的处理策略
+     * @param <T>
+     * @return
+     */
+    public <T> Flowable<T> tFlowable(Class<T> tClass, BusOverflowStrategy strategy) {
+        return tFlowable(tClass, strategy, Flowable.bufferSize());
+    }
+
+    /**
+     * 订阅普通事件，支持背压。<br/>
+     * 每个订阅者有自己的缓冲区，处理慢的订阅者(如 {@code observeOn()} 之后)最多缓存 bufferSize 个事件，
+     * 超出的事件按 strategy 处理，丢弃的事件数可以通过 {@link #getDroppedEventCount(Class)} 查看
+     *
+     * @param tClass
+     * @param strategy   缓冲区满了之后的处理策略
+     * @param bufferSize 缓冲区大小，{@link BusOverflowStrategy#LATEST} 时忽略
+     * @param <T>
+     * @return
+     */
+    public <T> Flowable<T> tFlowable(Class<T> tClass, BusOverflowStrategy strategy, int bufferSize) {
+        return toFlowable(tObservable(tClass), tClass, strategy, bufferSize);
+    }
+
+    /**
+     * 订阅粘性事件，支持背压，和 {@link #tFlowable(Class, BusOverflowStrategy, int)} 使用相同的处理策略
+     *
+     * @param tClass
+     * @param strategy   缓冲区满了之后的处理策略
+     * @param bufferSize 缓冲区大小，{@link BusOverflowStrategy#LATEST} 时忽略
+     * @param <T>
+     * @return
+     */
+    public <T> Flowable<T> tFlowableSticky(Class<T> tClass, BusOverflowStrategy strategy, int bufferSize) {
+        return toFlowable(tObservableSticky(tClass), tClass, strategy, bufferSize);
+    }
+
+    /**
+     * 获取某个订阅类型的 Flowable 订阅者因为缓冲区溢出而丢弃的事件总数
+     *
+     * @param tClass
+     * @return
+     */
+    public long getDroppedEventCount(Class<?> tClass) {
+        AtomicLong count = mDroppedCountMap.get(tClass);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * 发送粘性事件
+     *
+     * @param obj
+     */
+    public void postSticky(Object obj) {
+        if (obj == null) {
+            throw new NullPointerException("event is null");
+        }
+        export(obj, true);
+        dispatchSticky(obj);
+    }
+
+    /**
+     * 订阅粘性事件。<br/>
+     * 订阅时先收到已经保存的粘性事件(按发送顺序)，再收到之后发送的事件；订阅过程中发送的粘性事件只会收到一次
+     *
+     * @param tClass
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Observable<T> tObservableSticky(Class<T> tClass) {
+        return (Observable<T>) (Observable<?>) channel(tClass).sticky();
+    }
+
+    /**
+     * 设置每种类型默认保留的粘性事件个数，默认 1 个(只保留最新的)
+     *
+     * @param depth
+     */
+    public void setStickyDepth(int depth) {
+        mStickyEventStore.setDefaultDepth(depth);
+    }
+
+    /**
+     * 设置某种类型保留的粘性事件个数，订阅粘性事件时按发送顺序收到保留的所有事件
+     *
+     * @param tClass
+     * @param depth
+     */
+    public void setStickyDepth(Class<?> tClass, int depth) {
+        mStickyEventStore.setDepth(tClass, depth);
+    }
+
+    /**
+     * 设置粘性事件的过期时间，过期的粘性事件不会再发送给订阅者，小于等于 0 表示不过期(默认)
+     *
+     * @param time
+     * @param unit
+     */
+    public void setStickyExpire(long time, TimeUnit unit) {
+        mStickyEventStore.setExpire(time, unit);
+    }
+
+    /**
+     * 设置所有类型保留的粘性事件总数上限，超出时从最久没有被访问的类型中移除最早的事件，默认不限制
+     *
+     * @param maxCount
+     */
+    public void setMaxStickyEventCount(int maxCount) {
+        mStickyEventStore.setMaxCount(maxCount);
+    }
+
+    /**
+     * 开启或关闭运行统计，默认关闭。关闭时没有任何统计开销
+     *
+     * @param enabled
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        if (enabled) {
+            if (mMetrics == null) {
+                mMetrics = new RxBusMetrics(this);
+            }
+        } else {
+            mMetrics = null;
+        }
+    }
+
+    /**
+     * 获取运行统计
+     *
+     * @return 没有开启时返回 null
+     */
+    public RxBusMetrics getMetrics() {
+        return mMetrics;
+    }
+
+    /**
+     * 切换订阅者的线程，和 {@code observeOn(scheduler)} 相同；开启统计时同时统计在切换线程时排队的事件数。<br/>
+     * 使用：<code>RxBus.newInstance().tObservable(String.class).compose(RxBus.newInstance().observeOnTracked(String.class, scheduler))</code>
+     *
+     * @param tClass    订阅的事件类型，用于统计
+     * @param scheduler
+     * @param <T>
+     * @return
+     */
+    public <T> ObservableTransformer<T, T> observeOnTracked(final Class<?> tClass, final Scheduler scheduler) {
+        return new ObservableTransformer<T, T>() {
+            @Override
+            public ObservableSource<T> apply(Observable<T> upstream) {
+                RxBusMetrics metrics = mMetrics;
+                if (metrics == null) {
+                    return upstream.observeOn(scheduler);
+                }
+                final AtomicLong queueDepth = metrics.stats(tClass).queueDepth;
+                return upstream
+                        .doOnNext(new Consumer<T>() {
+                            @Override
+                            public void accept(T t) throws Exception {
+                                queueDepth.incrementAndGet();
+                            }
+                        })
+                        .observeOn(scheduler)
+                        .doOnNext(new Consumer<T>() {
+                            @Override
+                            public void accept(T t) throws Exception {
+                                queueDepth.decrementAndGet();
+                            }
+                        });
+            }
+        };
+    }
+
+    /**
+     * 判断是否有订阅者
+     *
+     * @return
+     */
+    public boolean hasObservers() {
+        for (EventChannel channel : mChannelMap.values()) {
+            if (channel.hasObservers()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 根据事件类型获取一个粘性事件，指定父类型或接口时返回所有子类型中最新的一个
+     *
+     * @param tClass
+     * @param <T>
+     * @return
+     */
+    public <T> T getStickyEvent(Class<T> tClass) {
+        return tClass.cast(mStickyEventStore.getLatest(tClass));
+    }
+
+    /**
+     * 根据事件类型移除粘性事件(只移除这个具体类型保留的事件，不包括子类型)
+     *
+     * @param tClass
+     * @param <T>
+     * @return 移除前最新的粘性事件
+     */
+    public <T> T removetStickyEvent(Class<T> tClass) {
+        return tClass.cast(mStickyEventStore.remove(tClass));
+    }
+
+    /**
+     * 移除该类型及其子类型保留的所有粘性事件，例如 Number.class 会同时移除 Integer、Long 等事件
+     *
+     * @param tClass
+     * @param <T>
+     * @return 移除前最新的粘性事件
+     */
+    public <T> T removeStickyEventWithSubtypes(Class<T> tClass) {
+        return tClass.cast(mStickyEventStore.removeWithSubtypes(tClass));
+    }
+
+    /**
+     * 移除所有粘性事件
+     */
+    public void clearStickyEvent() {
+        mStickyEventStore.clear();
+    }
+
+    /**
+     * 某个订阅类型当前的订阅者个数
+     *
+     * @param tClass
+     * @return
+     */
+    int subscriberCount(Class<?> tClass) {
+        EventChannel channel = mChannelMap.get(tClass);
+        return channel == null ? 0 : channel.subscriberCount();
+    }
+
+    /**
+     * 设置跨进程桥接，一个 RxBus 只能有一个桥接
+     *
+     * @param bridge
+     */
+    void attachBridge(RxBusBridge bridge) {
+        if (!mBridge.compareAndSet(null, bridge)) {
+            throw new IllegalStateException("RxBus already has a bridge");
+        }
+    }
+
+    /**
+     * 关闭桥接时调用，只在当前的桥接是 bridge 时才清除
+     *
+     * @param bridge
+     */
+    void detachBridge(RxBusBridge bridge) {
+        mBridge.compareAndSet(bridge, null);
+    }
+
+    /**
+     * 设置事件日志，一个 RxBus 同时只能有一个事件日志
+     *
+     * @param journal
+     */
+    void attachJournal(RxBusJournal journal) {
+        if (!mJournal.compareAndSet(null, journal)) {
+            throw new IllegalStateException("RxBus already has a journal");
+        }
+    }
+
+    /**
+     * 关闭事件日志时调用，只在当前的事件日志是 journal 时才清除
+     *
+     * @param journal
+     */
+    void detachJournal(RxBusJournal journal) {
+        mJournal.compareAndSet(journal, null);
+    }
+
+    /**
+     * 只在本进程中发送事件，不转发也不记录，用于其他进程收到的事件和日志重放的事件
+     *
+     * @param event
+     * @param sticky 是否粘性事件
+     */
+    void postLocal(Object event, boolean sticky) {
+        if (sticky) {
+            dispatchSticky(event);
+        } else {
+            Class<?> eventClass = event.getClass();
+            dispatch(eventClass, event, eventClass.hashCode(), EventTypeCache.priority(eventClass));
+        }
+    }
+
+    /**
+     * 本进程发送的事件交给桥接和事件日志
+     */
+    private void export(Object event, boolean sticky) {
+        RxBusBridge bridge = mBridge.get();
+        if (bridge != null) {
+            bridge.forward(event, sticky);
+        }
+        RxBusJournal journal = mJournal.get();
+        if (journal != null) {
+            journal.append(event, sticky);
+        }
+    }
+
+    private void dispatchSticky(Object obj) {
+        StickyEventStore.StickyEvent sticky = mStickyEventStore.put(obj);
+        Class<?> eventClass = obj.getClass();
+        // 带着序号分发，粘性订阅者根据序号去重
+        dispatch(eventClass, sticky, eventClass.hashCode(), EventTypeCache.priority(eventClass));
+    }
+
+    /**
+     * 将事件分发到所有需要的通道
+     *
+     * @param eventClass
+     * @param item       事件或粘性事件
+     * @param hash       用于选择分片
+     * @param priority   优先级
+     */
+    private void dispatch(Class<?> eventClass, Object item, int hash, int priority) {
+        purgeCollected();
+        RxBusMetrics metrics = mMetrics;
+        if (metrics != null) {
+            metrics.onPost(eventClass);
+            item = new RxBusMetrics.TimedItem(item, metrics, System.nanoTime());
+        }
+        for (EventChannel channel : dispatchChannels(eventClass)) {
+            channel.offer(item, hash, priority);
+        }
+    }
+
+    /**
+     * 清除作用域中已经被回收的订阅者，没有时只是一次判空
+     */
+    void purgeCollected() {
+        Reference<?> reference;
+        while ((reference = mCollectedQueue.poll()) != null) {
+            ((RxBusScope.WeakObserver<?>) reference).disposeUpstream();
+        }
+    }
+
+    /**
+     * 获取订阅类型对应的事件通道，不存在时创建
+     *
+     * @param tClass
+     * @return
+     */
+    private EventChannel channel(Class<?> tClass) {
+        EventChannel channel = mChannelMap.get(tClass);
+        if (channel == null) {
+            EventChannel created = new EventChannel(tClass, mShardCount, mStickyEventStore);
+            channel = mChannelMap.putIfAbsent(tClass, created);
+            if (channel == null) {
+                channel = created;
+                // 有新的订阅类型，之前计算的分发缓存全部失效
+                mChannelVersion.incrementAndGet();
+                mDispatchCache.clear();
+            }
+        }
+        return channel;
+    }
+
+    /**
+     * 获取某个事件类型需要分发的所有通道
+     *
+     * @param eventClass
+     * @return
+     */
+    private EventChannel[] dispatchChannels(Class<?> eventClass) {
+        EventChannel[] channels = mDispatchCache.get(eventClass);
+        if (channels == null) {
+            int version = mChannelVersion.get();
+            List<EventChannel> list = new ArrayList<>();
+            for (Class<?> type : EventTypeCache.hierarchy(eventClass)) {
+                EventChannel channel = mChannelMap.get(type);
+                if (channel != null) {
+                    list.add(channel);
+                }
+            }
+            channels = list.isEmpty() ? NO_CHANNEL : list.toArray(new EventChannel[list.size()]);
+            mDispatchCache.put(eventClass, channels);
+            // 计算过程中有新的订阅类型加入，缓存可能不完整，移除后下次重新计算
+            if (version != mChannelVersion.get()) {
+                mDispatchCache.remove(eventClass, channels);
+            }
+        }
+        return channels;
+    }
+
+    private <T> Flowable<T> toFlowable(Observable<T> observable, Class<T> tClass,
+                                       BusOverflowStrategy strategy, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        AtomicLong count = mDroppedCountMap.get(tClass);
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            count = mDroppedCountMap.putIfAbsent(tClass, created);
+            if (count == null) {
+                count = created;
+            }
+        }
+        final AtomicLong droppedCount = count;
+        Action onOverflow = new Action() {
+            @Override
+            public void run() throws Exception {
+                droppedCount.incrementAndGet();
+            }
+        };
+        Flowable<T> flowable = observable.toFlowable(BackpressureStrategy.MISSING);
+        switch (strategy) {
+            case DROP_OLDEST:
+                return flowable.onBackpressureBuffer(bufferSize, onOverflow, BackpressureOverflowStrategy.DROP_OLDEST);
+            case DROP_LATEST:
+                return flowable.onBackpressureBuffer(bufferSize, onOverflow, BackpressureOverflowStrategy.DROP_LATEST);
+            case LATEST:
+                // 只缓存一个，新事件总是替换旧事件
+                return flowable.onBackpressureBuffer(1, onOverflow, BackpressureOverflowStrategy.DROP_OLDEST);
+            default:
+                return flowable.onBackpressureBuffer(bufferSize, false, false, onOverflow);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   17:10
+ * <p>
+ * 描述：{@link RxBus} 跨进程桥接，把指定类型的事件通过本机回环地址(127.0.0.1)转发给其他进程的 RxBus，不需要任何消息中间件。<br/>
+ * ① 只转发通过 {@link #register(int, Class, EventCodec)} 注册过的事件类型(按具体类型匹配)；<br/>
+ * ② 每个事件是一帧：[帧长度 int][类型 id short][标志 byte][事件内容]，事件内容由 {@link EventCodec} 编解码；<br/>
+ * ③ 每个连接一个写线程，负载高时把排队的多个帧合并到一个 direct buffer 中一次写出；<br/>
+ * ④ 收到的事件发送到本进程的 RxBus，不会再被转发回去；<br/>
+ * ⑤ 每个连接等待发送的事件有上限，对端处理不过来时丢弃新的事件，个数可以通过 {@link #getDroppedCount()} 查看；<br/>
+ * ⑥ 收到的帧解码失败时跳过这一帧并交给 {@link RxJavaPlugins#onError(Throwable)}，不断开连接。
+ * <pre>
+ *  进程 A：
+ *  <code>RxBusBridge bridge = new RxBusBridge(RxBus.newInstance()).register(1, String.class, EventCodec.STRING);</code>
+ *  <code>int port = bridge.listen(0);</code>
+ *  进程 B：
+ *  <code>new RxBusBridge(RxBus.newInstance()).register(1, String.class, EventCodec.STRING).connect(port);</code>
+ * </pre>
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：每个连接的发送队列改为有界，满了时丢弃并计数；解码失败的帧跳过，不再断开连接<br/>
+ * ======================================================================
+ */
+public final class RxBusBridge implements Closeable {
+    // 帧长度字段的字节数
+    private static final int LENGTH_SIZE = 4;
+    // 长度之后的帧头：类型 id + 标志
+    private static final int FRAME_HEADER_SIZE = 2 + 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 写线程一次最多合并的帧数
+    private static final int MAX_BATCH = 1024;
+    // 每个连接等待发送的事件个数上限
+    private static final int MAX_PENDING = 64 * 1024;
+    private static final byte FLAG_STICKY = 1;
+
+    private final RxBus mBus;
+    private final EventRegistry mRegistry = new EventRegistry();
+    private final CopyOnWriteArrayList<Peer> mPeers = new CopyOnWriteArrayList<>();
+    private final AtomicLong mDroppedCount = new AtomicLong();
+    private volatile ServerSocketChannel mServer;
+    private volatile boolean mClosed;
+
+    /**
+     * 一个 RxBus 只能有一个桥接，关闭之前的桥接后才能创建新的
+     *
+     * @param bus
+     * @throws IllegalStateException bus 已经有桥接
+     */
+    public RxBusBridge(RxBus bus) {
+        this.mBus = bus;
+        bus.attachBridge(this);
+    }
+
+    /**
+     * 注册需要转发的事件类型，两端需要使用相同的 typeId
+     *
+     * @param typeId 0 ~ 65535
+     * @param type
+     * @param codec
+     * @param <T>
+     * @return
+     */
+    public <T> RxBusBridge register(int typeId, Class<T> type, EventCodec<T> codec) {
+        mRegistry.register(typeId, type, codec);
+        return this;
+    }
+
+    /**
+     * 在本机回环地址上监听其他进程的连接
+     *
+     * @param port 为 0 时使用系统分配的端口
+     * @return 实际监听的端口
+     * @throws IOException
+     */
+    public int listen(int port) throws IOException {
+        final ServerSocketChannel server = ServerSocketChannel.open();
+        server.socket().bind(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), port));
+        mServer = server;
+        Thread acceptThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (!mClosed) {
+                    try {
+                        addPeer(server.accept());
+                    } catch (IOException e) {
+                        break;
+                    }
+                }
+            }
+        }, "RxBusBridge-accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        return server.socket().getLocalPort();
+    }
+
+    /**
+     * 连接本机另一个进程中监听的桥接
+     *
+     * @param port
+     * @throws IOException
+     */
+    public void connect(int port) throws IOException {
+        addPeer(SocketChannel.open(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), port)));
+    }
+
+    /**
+     * 当前连接的进程个数
+     *
+     * @return
+     */
+    public int getPeerCount() {
+        return mPeers.size();
+    }
+
+    /**
+     * 因为对端处理不过来、发送队列已满而没有转发的事件个数(每个连接分别计数)
+     *
+     * @return
+     */
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    /**
+     * 关闭所有连接，停止转发
+     */
+    @Override
+    public void close() {
+        mClosed = true;
+        mBus.detachBridge(this);
+        ServerSocketChannel server = mServer;
+        if (server != null) {
+            closeQuietly(server);
+        }
+        for (Peer peer : mPeers) {
+            peer.close();
+        }
+    }
+
+    /**
+     * 本进程发送了一个事件，如果注册过就转发给所有连接的进程
+     *
+     * @param event
+     * @param sticky
+     */
+    void forward(Object event, boolean sticky) {
+        EventRegistry.Registration<?> registration = mRegistry.forType(event.getClass());
+        if (registration == null) {
+            return;
+        }
+        Outbound outbound = new Outbound(registration, event, sticky);
+        for (Peer peer : mPeers) {
+            if (!peer.outbound.offer(outbound)) {
+                mDroppedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void addPeer(SocketChannel channel) throws IOException {
+        if (mClosed) {
+            closeQuietly(channel);
+            return;
+        }
+        channel.socket().setTcpNoDelay(true);
+        Peer peer = new Peer(channel);
+        mPeers.add(peer);
+        peer.start();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 等待发送的事件，发给多个进程时共用
+     */
+    static final class Outbound {
+        final EventRegistry.Registration<?> registration;
+        final Object event;
+        final boolean sticky;
+
+        Outbound(EventRegistry.Registration<?> registration, Object event, boolean sticky) {
+            this.registration = registration;
+            this.event = event;
+            this.sticky = sticky;
+        }
+    }
+
+    /**
+     * 一个连接，一个读线程和一个写线程
+     */
+    final class Peer {
+        final BlockingQueue<Outbound> outbound = new LinkedBlockingQueue<>(MAX_PENDING);
+        private final SocketChannel channel;
+        private final Thread reader;
+        private final Thread writer;
+
+        Peer(SocketChannel channel) {
+            this.channel = channel;
+            this.reader = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        read();
+                    } catch (Exception ignored) {
+                        // 连接断开或者帧长度错误(无法找到下一帧)，关闭连接
+                    } finally {
+                        close();
+                    }
+                }
+            }, "RxBusBridge-reader");
+            this.writer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        write();
+                    } catch (Exception ignored) {
+                        // 连接断开或者被关闭
+                    } finally {
+                        close();
+                    }
+                }
+            }, "RxBusBridge-writer");
+            reader.setDaemon(true);
+            writer.setDaemon(true);
+        }
+
+        void start() {
+            reader.start();
+            writer.start();
+        }
+
+        void close() {
+            if (mPeers.remove(this)) {
+                closeQuietly(channel);
+                writer.interrupt();
+            }
+        }
+
+        private void write() throws IOException, InterruptedException {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            List<Outbound> batch = new ArrayList<>(MAX_BATCH);
+            while (channel.isOpen()) {
+                batch.add(outbound.take());
+                // 负载高时一次取出所有排队的事件，合并写出
+                outbound.drainTo(batch, MAX_BATCH - 1);
+                for (int i = 0, size = batch.size(); i < size; i++) {
+                    buffer = encode(buffer, batch.get(i));
+                }
+                flush(buffer);
+                batch.clear();
+            }
+        }
+
+        private ByteBuffer encode(ByteBuffer buffer, Outbound outbound) throws IOException {
+            for (; ; ) {
+                int start = buffer.position();
+                try {
+                    // 帧头放不下时按缓冲区满处理
+                    if (buffer.remaining() < LENGTH_SIZE + FRAME_HEADER_SIZE) {
+                        throw new BufferOverflowException();
+                    }
+                    buffer.position(start + LENGTH_SIZE);
+                    buffer.putShort((short) outbound.registration.typeId);
+                    buffer.put(outbound.sticky ? FLAG_STICKY : 0);
+                    outbound.registration.encode(outbound.event, buffer);
+                    buffer.putInt(start, buffer.position() - start - LENGTH_SIZE);
+                    return buffer;
+                } catch (BufferOverflowException e) {
+                    buffer.position(start);
+                    if (start == 0) {
+                        // 一个事件就放不下，换一个更大的缓冲区
+                        buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    } else {
+                        flush(buffer);
+                    }
+                } catch (RuntimeException e) {
+                    // 编码器拒绝了这个事件：跳过并报告，不影响连接和其他事件
+                    buffer.position(start);
+                    RxJavaPlugins.onError(e);
+                    return buffer;
+                }
+            }
+        }
+
+        private void flush(ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void read() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.remaining() >= LENGTH_SIZE) {
+                    int length = buffer.getInt(buffer.position());
+                    if (length < FRAME_HEADER_SIZE) {
+                        throw new IOException("bad frame length: " + length);
+                    }
+                    if (buffer.remaining() < LENGTH_SIZE + length) {
+                        break;
+                    }
+                    int frameEnd = buffer.position() + LENGTH_SIZE + length;
+                    buffer.position(buffer.position() + LENGTH_SIZE);
+                    int typeId = buffer.getShort() & 0xFFFF;
+                    boolean sticky = (buffer.get() & FLAG_STICKY) != 0;
+                    EventRegistry.Registration<?> registration = mRegistry.forId(typeId);
+                    if (registration != null) {
+                        int limit = buffer.limit();
+                        buffer.limit(frameEnd);
+                        Object event = null;
+                        try {
+                            event = registration.decode(buffer);
+                        } catch (RuntimeException e) {
+                            // 解码器拒绝了这一帧：跳过并报告，不影响连接和其他帧
+                            RxJavaPlugins.onError(e);
+                        } finally {
+                            buffer.limit(limit);
+                        }
+                        if (event != null) {
+                            mBus.postLocal(event, sticky);
+                        }
+                    }
+                    buffer.position(frameEnd);
+                }
+                if (buffer.remaining() >= LENGTH_SIZE
+                        && LENGTH_SIZE + buffer.getInt(buffer.position()) > buffer.capacity()) {
+                    // 一帧比缓冲区还大，换一个更大的缓冲区
+                    ByteBuffer bigger = ByteBuffer.allocateDirect(LENGTH_SIZE + buffer.getInt(buffer.position()));
+                    bigger.put(buffer);
+                    buffer = bigger;
+                } else {
+                    buffer.compact();
+                }
+            }
+        }
+    }
+}
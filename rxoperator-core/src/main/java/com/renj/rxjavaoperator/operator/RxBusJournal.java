@@ -0,0 +1,398 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   17:50
+ * <p>
+ * 描述：{@link RxBus} 的事件日志，把指定类型的事件追加到内存映射文件中，重启后可以重放到 RxBus 中恢复状态(包括粘性事件)。<br/>
+ * ① 只记录通过 {@link #register(int, Class, EventCodec)} 注册过的事件类型(按具体类型匹配)；<br/>
+ * ② 发送线程只把事件放入队列，由后台线程批量编码写入文件，不增加 post 的耗时；
+ * 队列有上限，写入跟不上时发送线程等待，不丢弃事件；<br/>
+ * ③ 每条记录：[记录长度 int][发送时间 long][类型 id short][标志 byte][事件内容]，先写内容最后写长度，
+ * 写到一半的记录长度为 0，打开时会被忽略；<br/>
+ * ④ 文件写满时映射区域扩大一倍；重放的事件不会被再次记录，也不会被转发给其他进程；<br/>
+ * ⑤ 关闭之后或者写线程因为文件无法写入而退出之后，新的事件被丢弃，
+ * 个数可以通过 {@link #getDroppedCount()} 查看，写入失败的原因交给 {@link RxJavaPlugins#onError(Throwable)}；<br/>
+ * ⑥ 一个 RxBus 同时只能打开一个事件日志。
+ * <pre>
+ *  <code>RxBusJournal journal = RxBusJournal.open(bus, file).register(1, String.class, EventCodec.STRING);</code>
+ *  <code>journal.replay(0);</code>
+ * </pre>
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：写入队列改为有界(满了时发送线程等待)，写线程退出后丢弃并统计新的事件；一个 RxBus 只能打开一个事件日志<br/>
+ * ======================================================================
+ */
+public final class RxBusJournal implements Closeable {
+    private static final int MAGIC = 0x52584A31; // "RXJ1"
+    // 文件头：魔数
+    private static final int HEADER_SIZE = 4;
+    // 记录长度之后的固定部分：时间 + 类型 id + 标志
+    private static final int RECORD_HEADER_SIZE = 8 + 2 + 1;
+    private static final int LENGTH_SIZE = 4;
+    private static final int INITIAL_SIZE = 1024 * 1024;
+    // 写线程一次最多写入的记录数
+    private static final int MAX_BATCH = 1024;
+    // 等待写入的事件个数上限
+    private static final int MAX_PENDING = 64 * 1024;
+    private static final byte FLAG_STICKY = 1;
+
+    private final RxBus mBus;
+    private final RandomAccessFile mFile;
+    private final FileChannel mChannel;
+    private final EventRegistry mRegistry = new EventRegistry();
+    private final BlockingQueue<Object> mQueue = new LinkedBlockingQueue<>(MAX_PENDING);
+    private final AtomicLong mDroppedCount = new AtomicLong();
+    private final Thread mWriter;
+    // 只由写线程修改
+    private volatile MappedByteBuffer mBuffer;
+    // 已经完整写入的末尾位置
+    private volatile int mPosition;
+    private volatile boolean mClosed;
+    // 写线程已经退出，不再接收新的事件
+    private volatile boolean mStopped;
+
+    /**
+     * 打开(没有时创建)事件日志，并开始记录 bus 中发送的事件
+     *
+     * @param bus
+     * @param file
+     * @return
+     * @throws IOException
+     * @throws IllegalStateException bus 已经打开了一个没有关闭的事件日志
+     */
+    public static RxBusJournal open(RxBus bus, File file) throws IOException {
+        RxBusJournal journal = new RxBusJournal(bus, file);
+        try {
+            bus.attachJournal(journal);
+        } catch (IllegalStateException e) {
+            journal.mFile.close();
+            throw e;
+        }
+        journal.mWriter.start();
+        return journal;
+    }
+
+    private RxBusJournal(RxBus bus, File file) throws IOException {
+        this.mBus = bus;
+        this.mFile = new RandomAccessFile(file, "rw");
+        this.mChannel = mFile.getChannel();
+        try {
+            long length = mChannel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("journal is too large: " + length);
+            }
+            mBuffer = mChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(length, INITIAL_SIZE));
+            if (length == 0) {
+                mBuffer.putInt(0, MAGIC);
+            } else if (mBuffer.getInt(0) != MAGIC) {
+                throw new IOException("not a RxBus journal: " + file);
+            }
+            mPosition = scanEnd(mBuffer);
+        } catch (IOException e) {
+            mFile.close();
+            throw e;
+        }
+        mWriter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    write();
+                } catch (InterruptedException ignored) {
+                    // 被关闭
+                } catch (IOException e) {
+                    // 文件无法写入，不再记录
+                    RxJavaPlugins.onError(e);
+                } finally {
+                    stop();
+                }
+            }
+        }, "RxBusJournal-writer");
+        mWriter.setDaemon(true);
+    }
+
+    /**
+     * 注册需要记录的事件类型，重放前也需要注册
+     *
+     * @param typeId 0 ~ 65535，同一个文件中不能改变
+     * @param type
+     * @param codec
+     * @param <T>
+     * @return
+     */
+    public <T> RxBusJournal register(int typeId, Class<T> type, EventCodec<T> codec) {
+        mRegistry.register(typeId, type, codec);
+        return this;
+    }
+
+    /**
+     * 从指定位置开始，把日志中的事件重放到 RxBus 中
+     *
+     * @param offset 开始位置，0 表示从头开始，也可以是之前 {@link #getPosition()} 返回的位置
+     * @return 重放结束的位置
+     */
+    public int replay(int offset) {
+        return replay(offset, Long.MIN_VALUE);
+    }
+
+    /**
+     * 把日志中指定时间之后(包括)发送的事件重放到 RxBus 中
+     *
+     * @param timeMillis 发送时间，{@link System#currentTimeMillis()}
+     * @return 重放结束的位置
+     */
+    public int replaySince(long timeMillis) {
+        return replay(0, timeMillis);
+    }
+
+    /**
+     * 已经写入文件的末尾位置
+     *
+     * @return
+     */
+    public int getPosition() {
+        return mPosition;
+    }
+
+    /**
+     * 因为日志已经关闭或者写入失败而没有记录的事件个数
+     *
+     * @return
+     */
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    /**
+     * 等待之前发送的事件全部写入，并同步到磁盘
+     *
+     * @throws InterruptedException
+     */
+    public void flush() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        while (!mQueue.offer(latch, 10, TimeUnit.MILLISECONDS)) {
+            if (!mWriter.isAlive()) {
+                return;
+            }
+        }
+        while (!latch.await(10, TimeUnit.MILLISECONDS)) {
+            if (!mWriter.isAlive()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 写入已经发送的事件后关闭日志，不再记录
+     */
+    @Override
+    public void close() throws IOException {
+        mBus.detachJournal(this);
+        if (!mClosed) {
+            try {
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            mClosed = true;
+            mWriter.interrupt();
+            mFile.close();
+        }
+    }
+
+    /**
+     * 本进程发送了一个事件，如果注册过就放入写入队列
+     *
+     * @param event
+     * @param sticky
+     */
+    void append(Object event, boolean sticky) {
+        EventRegistry.Registration<?> registration = mRegistry.forType(event.getClass());
+        if (registration == null) {
+            return;
+        }
+        Entry entry = new Entry(registration, event, System.currentTimeMillis(), sticky);
+        try {
+            // 队列满了时等待写线程，写线程退出后不再等待
+            while (!mClosed && !mStopped) {
+                if (mQueue.offer(entry, 10, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        mDroppedCount.incrementAndGet();
+    }
+
+    /**
+     * 写线程退出：不再接收新的事件，还在队列中的事件计为丢弃
+     */
+    private void stop() {
+        mStopped = true;
+        List<Object> pending = new ArrayList<>();
+        mQueue.drainTo(pending);
+        for (Object item : pending) {
+            if (item instanceof Entry) {
+                mDroppedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private int replay(int offset, long sinceMillis) {
+        // 先读取位置再读取映射：写入线程扩大映射之后才会更新位置，这样读到的映射一定包含这个位置
+        int end = mPosition;
+        ByteBuffer buffer = mBuffer.duplicate();
+        end = Math.min(end, buffer.capacity());
+        int position = Math.max(offset, HEADER_SIZE);
+        buffer.limit(end);
+        while (position + LENGTH_SIZE <= end) {
+            int recordEnd = position + LENGTH_SIZE + buffer.getInt(position);
+            buffer.position(position + LENGTH_SIZE);
+            long time = buffer.getLong();
+            int typeId = buffer.getShort() & 0xFFFF;
+            boolean sticky = (buffer.get() & FLAG_STICKY) != 0;
+            EventRegistry.Registration<?> registration = mRegistry.forId(typeId);
+            if (registration != null && time >= sinceMillis) {
+                buffer.limit(recordEnd);
+                Object event = registration.decode(buffer);
+                buffer.limit(end);
+                mBus.postLocal(event, sticky);
+            }
+            position = recordEnd;
+        }
+        return position;
+    }
+
+    private void write() throws InterruptedException, IOException {
+        List<Object> batch = new ArrayList<>(MAX_BATCH);
+        MappedByteBuffer buffer = mBuffer;
+        buffer.position(mPosition);
+        while (!mClosed) {
+            batch.add(mQueue.take());
+            // 一次取出所有排队的事件，批量写入
+            mQueue.drainTo(batch, MAX_BATCH - 1);
+            for (int i = 0, size = batch.size(); i < size; i++) {
+                Object item = batch.get(i);
+                if (item instanceof Entry) {
+                    buffer = encode(buffer, (Entry) item);
+                } else {
+                    mPosition = buffer.position();
+                    buffer.force();
+                    ((CountDownLatch) item).countDown();
+                }
+            }
+            mPosition = buffer.position();
+            batch.clear();
+        }
+    }
+
+    private MappedByteBuffer encode(MappedByteBuffer buffer, Entry entry) throws IOException {
+        for (; ; ) {
+            int start = buffer.position();
+            // 固定部分放不下时直接扩大
+            if (buffer.remaining() < LENGTH_SIZE + RECORD_HEADER_SIZE) {
+                buffer = grow(buffer, start);
+                continue;
+            }
+            try {
+                buffer.position(start + LENGTH_SIZE);
+                buffer.putLong(entry.time);
+                buffer.putShort((short) entry.registration.typeId);
+                buffer.put(entry.sticky ? FLAG_STICKY : 0);
+                entry.registration.encode(entry.event, buffer);
+                // 内容写完之后再写长度
+                buffer.putInt(start, buffer.position() - start - LENGTH_SIZE);
+                return buffer;
+            } catch (BufferOverflowException e) {
+                clear(buffer, start);
+                buffer = grow(buffer, start);
+            } catch (RuntimeException e) {
+                // 编码器拒绝了这个事件：跳过并报告，不影响其他事件
+                clear(buffer, start);
+                RxJavaPlugins.onError(e);
+                return buffer;
+            }
+        }
+    }
+
+    /**
+     * 映射区域扩大一倍
+     */
+    private MappedByteBuffer grow(MappedByteBuffer buffer, int position) throws IOException {
+        long size = (long) buffer.capacity() * 2;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("journal is full");
+        }
+        buffer.force();
+        MappedByteBuffer grown = mChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        grown.position(position);
+        mBuffer = grown;
+        return grown;
+    }
+
+    /**
+     * 清除写入失败的记录留下的内容，并回到记录开始的位置
+     */
+    private static void clear(ByteBuffer buffer, int start) {
+        for (int i = start, end = Math.min(buffer.position(), buffer.limit()); i < end; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.position(start);
+    }
+
+    /**
+     * 找到最后一条完整记录的末尾
+     */
+    private static int scanEnd(ByteBuffer buffer) {
+        int position = HEADER_SIZE;
+        int capacity = buffer.capacity();
+        while (position + LENGTH_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length < RECORD_HEADER_SIZE || length > capacity - position - LENGTH_SIZE) {
+                break;
+            }
+            position += LENGTH_SIZE + length;
+        }
+        return position;
+    }
+
+    /**
+     * 等待写入的事件
+     */
+    static final class Entry {
+        final EventRegistry.Registration<?> registration;
+        final Object event;
+        final long time;
+        final boolean sticky;
+
+        Entry(EventRegistry.Registration<?> registration, Object event, long time, boolean sticky) {
+            this.registration = registration;
+            this.event = event;
+            this.time = time;
+            this.sticky = sticky;
+        }
+    }
+}
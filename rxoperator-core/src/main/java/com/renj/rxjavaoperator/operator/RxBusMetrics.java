@@ -0,0 +1,211 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   14:20
+ * <p>
+ * 描述：{@link RxBus} 的运行统计，通过 {@link RxBus#setMetricsEnabled(boolean)} 开启。<br/>
+ * 按发送的事件类型统计：发送次数、每秒发送次数、平均分发给多少个订阅者、从发送到分发给订阅者的延迟；<br/>
+ * 按订阅的事件类型统计：当前订阅者个数、{@link RxBus#observeOnTracked(Class, io.reactivex.Scheduler)} 切换线程时排队的事件数。<br/>
+ * 没有开启时 RxBus 不会创建这个类，也不会有任何统计的开销。
+ * <p>
+ * 修订历史：
+ * <p>
+ * ======================================================================
+ */
+public final class RxBusMetrics {
+    private final RxBus mBus;
+    private final ConcurrentHashMap<Class<?>, TypeStats> mStatsMap = new ConcurrentHashMap<>();
+    private volatile long mStartNanos = System.nanoTime();
+
+    RxBusMetrics(RxBus bus) {
+        this.mBus = bus;
+    }
+
+    /**
+     * 所有统计过的事件类型(包括发送的和订阅的)
+     *
+     * @return
+     */
+    public Set<Class<?>> getEventTypes() {
+        return Collections.unmodifiableSet(mStatsMap.keySet());
+    }
+
+    /**
+     * 某个事件类型的发送次数
+     *
+     * @param eventClass
+     * @return
+     */
+    public long getPostCount(Class<?> eventClass) {
+        TypeStats stats = mStatsMap.get(eventClass);
+        return stats == null ? 0 : stats.posts.get();
+    }
+
+    /**
+     * 某个事件类型从开启统计(或上次 {@link #reset()})到现在，平均每秒发送的次数
+     *
+     * @param eventClass
+     * @return
+     */
+    public double getPostRate(Class<?> eventClass) {
+        double seconds = (System.nanoTime() - mStartNanos) / 1e9;
+        return seconds <= 0 ? 0 : getPostCount(eventClass) / seconds;
+    }
+
+    /**
+     * 某个事件类型平均每次发送分发给了多少个订阅者
+     *
+     * @param eventClass
+     * @return
+     */
+    public double getAverageFanOut(Class<?> eventClass) {
+        TypeStats stats = mStatsMap.get(eventClass);
+        if (stats == null) {
+            return 0;
+        }
+        long posts = stats.posts.get();
+        return posts == 0 ? 0 : (double) stats.deliveries.get() / posts;
+    }
+
+    /**
+     * 某个订阅类型当前的订阅者个数
+     *
+     * @param eventClass
+     * @return
+     */
+    public int getSubscriberCount(Class<?> eventClass) {
+        return mBus.subscriberCount(eventClass);
+    }
+
+    /**
+     * 某个订阅类型在 {@link RxBus#observeOnTracked(Class, io.reactivex.Scheduler)} 中还没有被处理的事件数
+     *
+     * @param eventClass
+     * @return
+     */
+    public long getObserveOnQueueDepth(Class<?> eventClass) {
+        TypeStats stats = mStatsMap.get(eventClass);
+        return stats == null ? 0 : stats.queueDepth.get();
+    }
+
+    /**
+     * 某个事件类型从发送到分发给订阅者的延迟
+     *
+     * @param eventClass
+     * @return 没有发送过时返回 null
+     */
+    public LatencyHistogram getLatency(Class<?> eventClass) {
+        TypeStats stats = mStatsMap.get(eventClass);
+        return stats == null ? null : stats.latency;
+    }
+
+    /**
+     * 清除所有计数，重新开始统计(不影响排队的事件数)
+     */
+    public void reset() {
+        for (TypeStats stats : mStatsMap.values()) {
+            stats.posts.set(0);
+            stats.deliveries.set(0);
+            stats.latency.reset();
+        }
+        mStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("RxBusMetrics{");
+        for (Class<?> eventClass : mStatsMap.keySet()) {
+            builder.append("\n  ").append(eventClass.getName())
+                    .append(": posts=").append(getPostCount(eventClass))
+                    .append(", rate=").append(String.format("%.1f", getPostRate(eventClass))).append("/s")
+                    .append(", subscribers=").append(getSubscriberCount(eventClass))
+                    .append(", fanOut=").append(String.format("%.2f", getAverageFanOut(eventClass)))
+                    .append(", observeOnDepth=").append(getObserveOnQueueDepth(eventClass))
+                    .append(", latency=").append(getLatency(eventClass));
+        }
+        return builder.append("\n}").toString();
+    }
+
+    TypeStats stats(Class<?> eventClass) {
+        TypeStats stats = mStatsMap.get(eventClass);
+        if (stats == null) {
+            TypeStats created = new TypeStats();
+            stats = mStatsMap.putIfAbsent(eventClass, created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 记录一次发送
+     *
+     * @param eventClass
+     */
+    void onPost(Class<?> eventClass) {
+        stats(eventClass).posts.incrementAndGet();
+    }
+
+    /**
+     * 一种事件类型的统计数据
+     */
+    static final class TypeStats {
+        final AtomicLong posts = new AtomicLong();
+        final AtomicLong deliveries = new AtomicLong();
+        final AtomicLong queueDepth = new AtomicLong();
+        final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    /**
+     * 开启统计时入队的事件，带有发送时间，分发时记录延迟和订阅者个数
+     */
+    static final class TimedItem {
+        // 事件、批量事件或粘性事件
+        final Object item;
+        private final RxBusMetrics metrics;
+        private final long postNanos;
+
+        TimedItem(Object item, RxBusMetrics metrics, long postNanos) {
+            this.item = item;
+            this.metrics = metrics;
+            this.postNanos = postNanos;
+        }
+
+        /**
+         * 分发完成
+         *
+         * @param subscribers 分发给了多少个订阅者
+         */
+        void onDelivered(int subscribers) {
+            long latency = System.nanoTime() - postNanos;
+            if (item instanceof EventChannel.Batch) {
+                Class<?> lastClass = null;
+                TypeStats stats = null;
+                for (Object event : ((EventChannel.Batch) item).events) {
+                    if (event.getClass() != lastClass) {
+                        lastClass = event.getClass();
+                        stats = metrics.stats(lastClass);
+                    }
+                    stats.deliveries.addAndGet(subscribers);
+                    stats.latency.record(latency);
+                }
+            } else {
+                Object event = item instanceof StickyEventStore.StickyEvent
+                        ? ((StickyEventStore.StickyEvent) item).event : item;
+                TypeStats stats = metrics.stats(event.getClass());
+                stats.deliveries.addAndGet(subscribers);
+                stats.latency.record(latency);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   16:20
+ * <p>
+ * 描述：{@link RxBus} 的订阅作用域，通过 {@link RxBus#newScope()} 创建。<br/>
+ * 通过作用域订阅的订阅者只被作用域强引用，RxBus 只持有弱引用：<br/>
+ * ① 作用域结束时调用 {@link #dispose()}，一次取消所有订阅；<br/>
+ * ② 忘记取消时，作用域的所有者(如 Activity)被回收后，作用域和订阅者也会被回收，RxBus 在之后发送事件时自动清除这些订阅。<br/>
+ * 所以作用域需要保存在所有者的成员变量中，否则订阅者可能会被提前回收。
+ * <pre>
+ *  <code>private final RxBusScope mBusScope = RxBus.newInstance().newScope();</code>
+ *  <code>mBusScope.subscribe(String.class, new Consumer<String>() {...});</code>
+ *  <code>// onDestroy()</code>
+ *  <code>mBusScope.dispose();</code>
+ * </pre>
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：订阅者记录对应的弱引用，测试可以通过 {@link #simulateCollected(Disposable)} 模拟回收<br/>
+ * ======================================================================
+ */
+public final class RxBusScope implements Disposable {
+    private final RxBus mBus;
+    private final ReferenceQueue<Object> mCollectedQueue;
+    // 强引用作用域中的所有订阅者
+    private final CompositeDisposable mDisposables = new CompositeDisposable();
+
+    RxBusScope(RxBus bus, ReferenceQueue<Object> collectedQueue) {
+        this.mBus = bus;
+        this.mCollectedQueue = collectedQueue;
+    }
+
+    /**
+     * 在作用域中订阅普通事件
+     *
+     * @param tClass
+     * @param onNext
+     * @param <T>
+     * @return
+     */
+    public <T> Disposable subscribe(Class<T> tClass, Consumer<? super T> onNext) {
+        return subscribe(mBus.tObservable(tClass), onNext);
+    }
+
+    /**
+     * 在作用域中订阅粘性事件
+     *
+     * @param tClass
+     * @param onNext
+     * @param <T>
+     * @return
+     */
+    public <T> Disposable subscribeSticky(Class<T> tClass, Consumer<? super T> onNext) {
+        return subscribe(mBus.tObservableSticky(tClass), onNext);
+    }
+
+    /**
+     * 在作用域中订阅，source 一般是 RxBus 的订阅方法返回的 Observable 再加上一些操作符
+     *
+     * @param source
+     * @param onNext
+     * @param <T>
+     * @return
+     */
+    public <T> Disposable subscribe(Observable<T> source, Consumer<? super T> onNext) {
+        ScopedObserver<T> observer = new ScopedObserver<>(onNext, mDisposables);
+        if (mDisposables.add(observer)) {
+            observer.weak = new WeakObserver<>(observer, mCollectedQueue);
+            source.subscribe(observer.weak);
+        }
+        return observer;
+    }
+
+    /**
+     * 把 {@link #subscribe(Observable, Consumer)} 返回的订阅者当作已经被回收：清除弱引用并放入回收队列，
+     * 和 GC 之后的状态相同，测试中不需要依赖 {@code System.gc()}
+     *
+     * @param subscription
+     */
+    static void simulateCollected(Disposable subscription) {
+        WeakObserver<?> weak = ((ScopedObserver<?>) subscription).weak;
+        weak.clear();
+        weak.enqueue();
+    }
+
+    /**
+     * 将一个订阅加入作用域，作用域结束时一起取消(强引用，不会被自动清除)
+     *
+     * @param disposable
+     */
+    public void add(Disposable disposable) {
+        mDisposables.add(disposable);
+    }
+
+    /**
+     * 作用域中的订阅个数
+     *
+     * @return
+     */
+    public int size() {
+        return mDisposables.size();
+    }
+
+    /**
+     * 结束作用域，取消作用域中所有的订阅
+     */
+    @Override
+    public void dispose() {
+        mDisposables.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return mDisposables.isDisposed();
+    }
+
+    /**
+     * 作用域中的订阅者，被作用域强引用
+     */
+    static final class ScopedObserver<T> extends AtomicBoolean implements Observer<T>, Disposable {
+        private static final long serialVersionUID = -5783011945312604177L;
+
+        private final Consumer<? super T> onNext;
+        private final CompositeDisposable parent;
+        private volatile Disposable upstream;
+        // RxBus 中实际保存的弱引用订阅者
+        WeakObserver<T> weak;
+
+        ScopedObserver(Consumer<? super T> onNext, CompositeDisposable parent) {
+            this.onNext = onNext;
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (get()) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (!isDisposed()) {
+                try {
+                    onNext.accept(t);
+                } catch (Throwable e) {
+                    Exceptions.throwIfFatal(e);
+                    dispose();
+                    RxJavaPlugins.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            dispose();
+            RxJavaPlugins.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            dispose();
+        }
+
+        @Override
+        public void dispose() {
+            if (compareAndSet(false, true)) {
+                Disposable d = upstream;
+                if (d != null) {
+                    d.dispose();
+                }
+                parent.delete(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get();
+        }
+    }
+
+    /**
+     * RxBus 中实际保存的订阅者，只弱引用作用域中的订阅者；
+     * 订阅者被回收后，收到事件时或 RxBus 发送事件时({@link RxBus#purgeCollected()})取消订阅
+     */
+    static final class WeakObserver<T> extends WeakReference<Observer<T>> implements Observer<T> {
+        private volatile Disposable upstream;
+
+        WeakObserver(Observer<T> observer, ReferenceQueue<Object> queue) {
+            super(observer, queue);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            Observer<T> observer = get();
+            if (observer == null) {
+                d.dispose();
+            } else {
+                observer.onSubscribe(d);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            Observer<T> observer = get();
+            if (observer == null) {
+                disposeUpstream();
+            } else {
+                observer.onNext(t);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            Observer<T> observer = get();
+            if (observer != null) {
+                observer.onError(e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            Observer<T> observer = get();
+            if (observer != null) {
+                observer.onComplete();
+            }
+        }
+
+        void disposeUpstream() {
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+    }
+}
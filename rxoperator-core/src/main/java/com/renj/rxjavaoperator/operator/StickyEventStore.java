@@ -0,0 +1,338 @@
+package com.renj.rxjavaoperator.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ======================================================================
+ * <p>
+ * 作者：Renj
+ * <p>
+ * 创建时间：2026-10-18   11:40
+ * <p>
+ * 描述：{@link RxBus} 的粘性事件存储，不使用锁。<br/>
+ * ① 每种事件类型保留最近的 N 个事件(默认 1 个)，可以按类型设置；<br/>
+ * ② 可以设置过期时间，过期的事件不会再被读取，写入时顺便清除；<br/>
+ * ③ 可以设置所有类型的事件总数上限，超出时从最久没有被访问的类型中移除最早的事件(LRU)。
+ * <p>
+ * 修订历史：
+ * <p>
+ * 2026-10-18：按父类型或接口查找时，同时返回所有子类型的粘性事件(按保存顺序)
+ * <p>
+ * ======================================================================
+ */
+final class StickyEventStore {
+    private static final StickyEvent[] EMPTY = new StickyEvent[0];
+    // 已经从集合中移除的类型，写入时看到它需要重新获取
+    private static final StickyEvent[] REMOVED = new StickyEvent[0];
+    private static final Comparator<StickyEvent> SEQUENCE_ORDER = new Comparator<StickyEvent>() {
+        @Override
+        public int compare(StickyEvent o1, StickyEvent o2) {
+            return o1.sequence < o2.sequence ? -1 : (o1.sequence == o2.sequence ? 0 : 1);
+        }
+    };
+
+    private final ConcurrentHashMap<Class<?>, Slot> mSlotMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, Integer> mDepthMap = new ConcurrentHashMap<>();
+    // 类型(包括父类和接口) -> 保存过粘性事件的所有子类型
+    private final ConcurrentHashMap<Class<?>, Set<Class<?>>> mSubtypeMap = new ConcurrentHashMap<>();
+    // 所有类型中保存的事件总数
+    private final AtomicInteger mCount = new AtomicInteger();
+    private final AtomicLong mSequence = new AtomicLong();
+    private volatile int mDefaultDepth = 1;
+    private volatile int mMaxCount = Integer.MAX_VALUE;
+    // 过期时间，单位纳秒，小于等于 0 表示不过期
+    private volatile long mExpireNanos;
+
+    void setDefaultDepth(int depth) {
+        mDefaultDepth = checkDepth(depth);
+    }
+
+    void setDepth(Class<?> eventClass, int depth) {
+        mDepthMap.put(eventClass, checkDepth(depth));
+    }
+
+    void setExpire(long time, TimeUnit unit) {
+        mExpireNanos = unit.toNanos(time);
+    }
+
+    void setMaxCount(int maxCount) {
+        if (maxCount <= 0) {
+            throw new IllegalArgumentException("maxCount > 0 required but it was " + maxCount);
+        }
+        mMaxCount = maxCount;
+        evict();
+    }
+
+    /**
+     * 保存一个粘性事件
+     *
+     * @param event
+     * @return 保存的粘性事件记录
+     */
+    StickyEvent put(Object event) {
+        Class<?> eventClass = event.getClass();
+        Integer typeDepth = mDepthMap.get(eventClass);
+        int depth = typeDepth == null ? mDefaultDepth : typeDepth;
+        for (; ; ) {
+            Slot slot = slot(eventClass);
+            StickyEvent[] current = slot.events.get();
+            if (current == REMOVED) {
+                continue;
+            }
+            // 读取当前值之后再获取序号，保证同一类型中序号的顺序就是保存的顺序
+            StickyEvent sticky = new StickyEvent(event, mSequence.incrementAndGet(), System.nanoTime());
+            // 先去掉过期的事件，再保留最近的 depth - 1 个
+            int from = firstAlive(current, sticky.time);
+            from = Math.max(from, current.length - (depth - 1));
+            int keep = current.length - from;
+            StickyEvent[] update = new StickyEvent[keep + 1];
+            System.arraycopy(current, from, update, 0, keep);
+            update[keep] = sticky;
+            if (slot.events.compareAndSet(current, update)) {
+                slot.accessTime = sticky.time;
+                mCount.addAndGet(update.length - current.length);
+                evict();
+                return sticky;
+            }
+        }
+    }
+
+    /**
+     * 获取某个类型(包括子类型)最新的粘性事件
+     *
+     * @param eventClass
+     * @return 没有时返回 null
+     */
+    Object getLatest(Class<?> eventClass) {
+        Set<Class<?>> subtypes = mSubtypeMap.get(eventClass);
+        if (subtypes == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        StickyEvent latest = null;
+        for (Class<?> subtype : subtypes) {
+            Slot slot = mSlotMap.get(subtype);
+            if (slot == null) {
+                continue;
+            }
+            StickyEvent[] current = slot.events.get();
+            if (current.length == 0) {
+                continue;
+            }
+            StickyEvent last = current[current.length - 1];
+            if (!isExpired(last, now) && (latest == null || last.sequence > latest.sequence)) {
+                latest = last;
+                slot.accessTime = now;
+            }
+        }
+        return latest == null ? null : latest.event;
+    }
+
+    /**
+     * 获取某个类型(包括子类型)所有没有过期的粘性事件，按保存顺序
+     *
+     * @param eventClass
+     * @return
+     */
+    List<StickyEvent> getAll(Class<?> eventClass) {
+        Set<Class<?>> subtypes = mSubtypeMap.get(eventClass);
+        if (subtypes == null) {
+            return Collections.emptyList();
+        }
+        long now = System.nanoTime();
+        List<StickyEvent> list = null;
+        int types = 0;
+        for (Class<?> subtype : subtypes) {
+            Slot slot = mSlotMap.get(subtype);
+            if (slot == null) {
+                continue;
+            }
+            StickyEvent[] current = slot.events.get();
+            int from = firstAlive(current, now);
+            if (from == current.length) {
+                continue;
+            }
+            slot.accessTime = now;
+            if (list == null) {
+                list = new ArrayList<>(current.length - from);
+            }
+            for (int i = from; i < current.length; i++) {
+                list.add(current[i]);
+            }
+            types++;
+        }
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        // 多个子类型时按保存顺序排列
+        if (types > 1) {
+            Collections.sort(list, SEQUENCE_ORDER);
+        }
+        return list;
+    }
+
+    /**
+     * 移除某个具体类型所有的粘性事件，不包括子类型
+     *
+     * @param eventClass
+     * @return 移除前最新的粘性事件，没有时返回 null
+     */
+    Object remove(Class<?> eventClass) {
+        StickyEvent last = removeExact(eventClass);
+        return last == null || isExpired(last, System.nanoTime()) ? null : last.event;
+    }
+
+    /**
+     * 移除某个类型(包括子类型)所有的粘性事件
+     *
+     * @param eventClass
+     * @return 移除前最新的粘性事件，没有时返回 null
+     */
+    Object removeWithSubtypes(Class<?> eventClass) {
+        Set<Class<?>> subtypes = mSubtypeMap.get(eventClass);
+        if (subtypes == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        StickyEvent latest = null;
+        for (Class<?> subtype : subtypes) {
+            StickyEvent last = removeExact(subtype);
+            if (last != null && !isExpired(last, now) && (latest == null || last.sequence > latest.sequence)) {
+                latest = last;
+            }
+        }
+        return latest == null ? null : latest.event;
+    }
+
+    /**
+     * 移除所有的粘性事件
+     */
+    void clear() {
+        for (Class<?> eventClass : mSlotMap.keySet()) {
+            removeExact(eventClass);
+        }
+    }
+
+    /**
+     * 移除某个具体类型所有的粘性事件
+     *
+     * @param eventClass
+     * @return 移除前最新的粘性事件记录，没有时返回 null
+     */
+    private StickyEvent removeExact(Class<?> eventClass) {
+        Slot slot = mSlotMap.remove(eventClass);
+        if (slot == null) {
+            return null;
+        }
+        StickyEvent[] removed = slot.events.getAndSet(REMOVED);
+        mCount.addAndGet(-removed.length);
+        return removed.length == 0 ? null : removed[removed.length - 1];
+    }
+
+    private Slot slot(Class<?> eventClass) {
+        Slot slot = mSlotMap.get(eventClass);
+        if (slot == null) {
+            Slot created = new Slot();
+            slot = mSlotMap.putIfAbsent(eventClass, created);
+            if (slot == null) {
+                slot = created;
+                // 第一次保存这个类型时，登记到它的所有父类型和接口下
+                for (Class<?> type : EventTypeCache.hierarchy(eventClass)) {
+                    Set<Class<?>> subtypes = mSubtypeMap.get(type);
+                    if (subtypes == null) {
+                        Set<Class<?>> newSet = Collections.newSetFromMap(new ConcurrentHashMap<Class<?>, Boolean>());
+                        subtypes = mSubtypeMap.putIfAbsent(type, newSet);
+                        if (subtypes == null) {
+                            subtypes = newSet;
+                        }
+                    }
+                    subtypes.add(eventClass);
+                }
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * 超出总数上限时，从最久没有被访问的类型中移除最早的事件
+     */
+    private void evict() {
+        while (mCount.get() > mMaxCount) {
+            Slot victim = null;
+            for (Map.Entry<Class<?>, Slot> entry : mSlotMap.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.events.get().length != 0 && (victim == null || slot.accessTime < victim.accessTime)) {
+                    victim = slot;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            StickyEvent[] current = victim.events.get();
+            if (current.length == 0) {
+                continue;
+            }
+            StickyEvent[] update = current.length == 1 ? EMPTY : new StickyEvent[current.length - 1];
+            System.arraycopy(current, 1, update, 0, update.length);
+            if (victim.events.compareAndSet(current, update)) {
+                mCount.decrementAndGet();
+            }
+        }
+    }
+
+    private int firstAlive(StickyEvent[] events, long now) {
+        int from = 0;
+        while (from < events.length && isExpired(events[from], now)) {
+            from++;
+        }
+        return from;
+    }
+
+    private boolean isExpired(StickyEvent sticky, long now) {
+        long expireNanos = mExpireNanos;
+        return expireNanos > 0 && now - sticky.time > expireNanos;
+    }
+
+    private static int checkDepth(int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth > 0 required but it was " + depth);
+        }
+        return depth;
+    }
+
+    /**
+     * 一种事件类型保存的粘性事件
+     */
+    static final class Slot {
+        // 按保存顺序排列，写时复制
+        final AtomicReference<StickyEvent[]> events = new AtomicReference<>(EMPTY);
+        // 最近一次访问时间，用于 LRU
+        volatile long accessTime = System.nanoTime();
+    }
+
+    /**
+     * 一个粘性事件记录
+     */
+    static final class StickyEvent {
+        final Object event;
+        // 保存顺序，每次保存都不同，同一类型中后保存的序号更大
+        final long sequence;
+        final long time;
+
+        StickyEvent(Object event, long sequence, long time) {
+            this.event = event;
+            this.sequence = sequence;
+            this.time = time;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import io.reactivex.functions.Consumer;
 import io.reactivex.subjects.AsyncSubject;
@@ -26,6 +27,8 @@ import io.reactivex.subjects.Subject;
  * ======================================================================
  */
 public class SubjectTest {
+    private static final NamedLogger LOG = Logger.forClass(SubjectTest.class);
+
     /**
      * AsyncSubject 类<br/>
      * 说明：使用AsyncSubject无论输入多少参数，永远只输出最后一个参数<br/><br/>
@@ -36,7 +39,7 @@ public class SubjectTest {
      * ② 如果因为发生了错误而终止，AsyncSubject 将不会发射任何数据，只是简单的向前传递这个错误通知
      */
     public static void asyncSubject() {
-        AsyncSubject asyncSubject = AsyncSubject.create();
+        AsyncSubject<Integer> asyncSubject = AsyncSubject.create();
         asyncSubject.onNext(0);
         asyncSubject.onNext(1);
         asyncSubject.onNext(2);
@@ -52,12 +55,12 @@ public class SubjectTest {
         asyncSubject.subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
-                Logger.i("AsyncSubject.create() result => " + integer);
+                LOG.i("AsyncSubject.create() result => " + integer);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("AsyncSubject.create() error => " + throwable);
+                LOG.e("AsyncSubject.create() error => " + throwable);
             }
         });
 
@@ -68,7 +71,7 @@ public class SubjectTest {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) {
-                        Logger.i("AsyncSubject.just(T...) result => " + integer);
+                        LOG.i("AsyncSubject.just(T...) result => " + integer);
                     }
                 });
     }
@@ -93,7 +96,7 @@ public class SubjectTest {
         behaviorSubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("BehaviorSubject_1 result => " + s);
+                LOG.i("BehaviorSubject_1 result => " + s);
             }
         });
 
@@ -108,12 +111,12 @@ public class SubjectTest {
         behaviorSubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("BehaviorSubject_2 result => " + s);
+                LOG.i("BehaviorSubject_2 result => " + s);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("BehaviorSubject_2 error => " + throwable);
+                LOG.e("BehaviorSubject_2 error => " + throwable);
             }
         });
 
@@ -137,12 +140,12 @@ public class SubjectTest {
         publishSubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("PublishSubject result_1 => " + s);
+                LOG.i("PublishSubject result_1 => " + s);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("PublishSubject error1 => " + throwable);
+                LOG.e("PublishSubject error1 => " + throwable);
             }
         });
         publishSubject.onNext("a");
@@ -150,12 +153,12 @@ public class SubjectTest {
         publishSubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("PublishSubject result_2 => " + s);
+                LOG.i("PublishSubject result_2 => " + s);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("PublishSubject error2 => " + throwable);
+                LOG.e("PublishSubject error2 => " + throwable);
             }
         });
 
@@ -168,12 +171,12 @@ public class SubjectTest {
         publishSubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("PublishSubject result_3 => " + s);
+                LOG.i("PublishSubject result_3 => " + s);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("PublishSubject error3 => " + throwable);
+                LOG.e("PublishSubject error3 => " + throwable);
             }
         });
         publishSubject.onNext("c");
@@ -181,12 +184,12 @@ public class SubjectTest {
         publishSubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("PublishSubject result_4 => " + s);
+                LOG.i("PublishSubject result_4 => " + s);
             }
         }/*, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("PublishSubject error4 => " + throwable);
+                LOG.e("PublishSubject error4 => " + throwable);
             }
         }*/);
     }
@@ -209,12 +212,12 @@ public class SubjectTest {
         replaySubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("ReplaySubject result_1 => " + s);
+                LOG.i("ReplaySubject result_1 => " + s);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("ReplaySubject error1 => " + throwable);
+                LOG.e("ReplaySubject error1 => " + throwable);
             }
         });
         replaySubject.onNext("Aa");
@@ -222,12 +225,12 @@ public class SubjectTest {
         replaySubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("ReplaySubject result_2 => " + s);
+                LOG.i("ReplaySubject result_2 => " + s);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("ReplaySubject error2 => " + throwable);
+                LOG.e("ReplaySubject error2 => " + throwable);
             }
         });
 
@@ -240,12 +243,12 @@ public class SubjectTest {
         replaySubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("ReplaySubject result_3 => " + s);
+                LOG.i("ReplaySubject result_3 => " + s);
             }
         }, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("ReplaySubject error3 => " + throwable);
+                LOG.e("ReplaySubject error3 => " + throwable);
             }
         });
         replaySubject.onNext("Cc");
@@ -253,12 +256,12 @@ public class SubjectTest {
         replaySubject.subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) {
-                Logger.i("ReplaySubject result_4 => " + s);
+                LOG.i("ReplaySubject result_4 => " + s);
             }
         }/*, new Consumer<Throwable>() {
             @Override
             public void accept(Throwable throwable) {
-                Logger.e("ReplaySubject error4 => " + throwable);
+                LOG.e("ReplaySubject error4 => " + throwable);
             }
         }*/);
     }
@@ -276,7 +279,7 @@ public class SubjectTest {
         serialized.subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) {
-                Logger.i("SerializedSubject result => " + integer);
+                LOG.i("SerializedSubject result => " + integer);
             }
         });
 
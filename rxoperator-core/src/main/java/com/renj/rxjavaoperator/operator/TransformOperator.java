@@ -1,12 +1,12 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.List;
 
 import io.reactivex.Observable;
 import io.reactivex.ObservableSource;
-import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
@@ -30,9 +30,13 @@ import io.reactivex.schedulers.Schedulers;
  * <p>
  * 修订历史：
  * <p>
+ * 2026-10-18：移到纯 Java 模块 rxoperator-core，切换到主线程改为使用 {@link OperatorSchedulers#mainThread()}，不再依赖 RxAndroid
+ * <p>
  * ======================================================================
  */
 public class TransformOperator {
+    private static final NamedLogger LOG = Logger.forClass(TransformOperator.class);
+
     /**
      * 操作符：map() 操作符<br/>
      * 说明：映射，通过对序列的每一项都应用一个函数变换Observable发射的数据，实质是对序列中的每一项执行一个函数，函数的参数就是这个数据项
@@ -48,7 +52,7 @@ public class TransformOperator {
                 .subscribe(new Consumer<String>() {
                     @Override
                     public void accept(String s) throws Exception {
-                        Logger.i("map operator ersult => " + s);
+                        LOG.i("map operator ersult => " + s);
                     }
                 });
     }
@@ -67,11 +71,11 @@ public class TransformOperator {
                     }
                 })
                 .subscribeOn(Schedulers.newThread())
-                .observeOn(AndroidSchedulers.mainThread())
+                .observeOn(OperatorSchedulers.mainThread())
                 .subscribe(new Consumer<String>() {
                     @Override
                     public void accept(String string) throws Exception {
-                        Logger.i("flatMap operator result => " + string);
+                        LOG.i("flatMap operator result => " + string);
                     }
                 });
     }
@@ -91,7 +95,7 @@ public class TransformOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("reduce operator result => " + integer);
+                        LOG.i("reduce operator result => " + integer);
                     }
                 });
     }
@@ -111,7 +115,7 @@ public class TransformOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("scan operator result => " + integer);
+                        LOG.i("scan operator result => " + integer);
                     }
                 });
     }
@@ -127,7 +131,7 @@ public class TransformOperator {
                 .subscribe(new Consumer<List<Integer>>() {
                     @Override
                     public void accept(List<Integer> integers) throws Exception {
-                        Logger.i("buffer operator result => " + integers);
+                        LOG.i("buffer operator result => " + integers);
                     }
                 });
     }
@@ -148,11 +152,11 @@ public class TransformOperator {
                 .subscribe(new Consumer<GroupedObservable<Integer, Integer>>() {
                     @Override
                     public void accept(final GroupedObservable<Integer, Integer> integerIntegerGroupedObservable) throws Exception {
-                        Logger.i("get group => " + integerIntegerGroupedObservable);
+                        LOG.i("get group => " + integerIntegerGroupedObservable);
                         integerIntegerGroupedObservable.subscribe(new Consumer<Integer>() {
                             @Override
                             public void accept(Integer integer) throws Exception {
-                                Logger.i("groupBy operator result => Group: " + integerIntegerGroupedObservable.getKey() + " - value: " + integer);
+                                LOG.i("groupBy operator result => Group: " + integerIntegerGroupedObservable.getKey() + " - value: " + integer);
                             }
                         });
                     }
@@ -170,11 +174,11 @@ public class TransformOperator {
                 .subscribe(new Consumer<Observable<Integer>>() {
                     @Override
                     public void accept(final Observable<Integer> integerObservable) throws Exception {
-                        Logger.i("get window => " + integerObservable);
+                        LOG.i("get window => " + integerObservable);
                         integerObservable.subscribe(new Consumer<Integer>() {
                             @Override
                             public void accept(Integer integer) throws Exception {
-                                Logger.i("window operator result => " + integer);
+                                LOG.i("window operator result => " + integer);
                             }
                         });
                     }
@@ -1,6 +1,7 @@
 package com.renj.rxjavaoperator.operator;
 
 import com.renj.rxjavaoperator.Logger;
+import com.renj.rxjavaoperator.NamedLogger;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
@@ -11,7 +12,6 @@ import io.reactivex.ObservableEmitter;
 import io.reactivex.ObservableOnSubscribe;
 import io.reactivex.ObservableSource;
 import io.reactivex.Observer;
-import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Action;
 import io.reactivex.functions.Consumer;
@@ -37,9 +37,13 @@ import io.reactivex.schedulers.Timed;
  * <p>
  * 修订历史：
  * <p>
+ * 2026-10-18：移到纯 Java 模块 rxoperator-core，切换到主线程改为使用 {@link OperatorSchedulers#mainThread()}，不再依赖 RxAndroid
+ * <p>
  * ======================================================================
  */
 public class UtilityOperator {
+    private static final NamedLogger LOG = Logger.forClass(UtilityOperator.class);
+
     /**
      * 操作符：delay() 操作符<br/>
      * 说明：延迟一段时间发射结果数据。多个重载方法，可以指定运行线程、出错时是否延迟发送等
@@ -50,7 +54,7 @@ public class UtilityOperator {
                 .subscribe(new Consumer<Integer>() {
                     @Override
                     public void accept(Integer integer) throws Exception {
-                        Logger.i("delay operator result => " + integer);
+                        LOG.i("delay operator result => " + integer);
                     }
                 });
     }
@@ -64,27 +68,27 @@ public class UtilityOperator {
         Observable.just("A").doOnNext(new Consumer<String>() {
             @Override
             public void accept(String s) throws Exception {
-                Logger.i("doOnNext");
+                LOG.i("doOnNext");
             }
         }).doAfterNext(new Consumer<String>() {
             @Override
             public void accept(String s) throws Exception {
-                Logger.i("doAfterNext");
+                LOG.i("doAfterNext");
             }
         }).doOnSubscribe(new Consumer<Disposable>() {
             @Override
             public void accept(Disposable disposable) throws Exception {
-                Logger.i("doOnSubscribe");
+                LOG.i("doOnSubscribe");
             }
         }).doOnComplete(new Action() {
             @Override
             public void run() throws Exception {
-                Logger.i("doOnComplete");
+                LOG.i("doOnComplete");
             }
         }).subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) throws Exception {
-                Logger.i("result => " + s);
+                LOG.i("result => " + s);
             }
         });
     }
@@ -97,15 +101,15 @@ public class UtilityOperator {
         Observable.create(new ObservableOnSubscribe<String>() {
             @Override
             public void subscribe(ObservableEmitter<String> e) throws Exception {
-                Logger.i("Observable runing thread => " + Thread.currentThread());
+                LOG.i("Observable runing thread => " + Thread.currentThread());
                 e.onNext("A-B-C-D");
             }
         }).subscribeOn(Schedulers.io())
-                .observeOn(AndroidSchedulers.mainThread())
+                .observeOn(OperatorSchedulers.mainThread())
                 .subscribe(new Consumer<String>() {
                     @Override
                     public void accept(String s) throws Exception {
-                        Logger.i("Observer runing thread => " + Thread.currentThread() + " ;result => " + s);
+                        LOG.i("Observer runing thread => " + Thread.currentThread() + " ;result => " + s);
                     }
                 });
     }
@@ -122,7 +126,7 @@ public class UtilityOperator {
                     @Override
                     public void accept(Notification<String> stringNotification) throws Exception {
                         String value = stringNotification.getValue();
-                        Logger.i("materialize operator result => " + value);
+                        LOG.i("materialize operator result => " + value);
                     }
                 });
 
@@ -132,7 +136,7 @@ public class UtilityOperator {
                 .subscribe(new Consumer<String>() {
                     @Override
                     public void accept(String s) throws Exception {
-                        Logger.i("dematerialize operator result => " + s);
+                        LOG.i("dematerialize operator result => " + s);
                     }
                 });
     }
@@ -148,7 +152,7 @@ public class UtilityOperator {
                 .subscribe(new Consumer<Timed<Integer>>() {
                     @Override
                     public void accept(Timed<Integer> integerTimed) throws Exception {
-                        Logger.i("timeInterval operator result => " + "time: " + integerTimed.time() + " ; value: " + integerTimed.value());
+                        LOG.i("timeInterval operator result => " + "time: " + integerTimed.time() + " ; value: " + integerTimed.value());
                     }
                 });
     }
@@ -164,7 +168,7 @@ public class UtilityOperator {
                 .subscribe(new Consumer<Timed<Integer>>() {
                     @Override
                     public void accept(Timed<Integer> integerTimed) throws Exception {
-                        Logger.i("timestamp operator result => " + "time: " + integerTimed.time() + " ; value: " + integerTimed.value());
+                        LOG.i("timestamp operator result => " + "time: " + integerTimed.time() + " ; value: " + integerTimed.value());
                     }
                 });
     }
@@ -193,17 +197,17 @@ public class UtilityOperator {
 
                     @Override
                     public void onNext(Integer integer) {
-                        Logger.i("timeout operator result => " + integer);
+                        LOG.i("timeout operator result => " + integer);
                     }
 
                     @Override
                     public void onError(Throwable e) {
-                        Logger.e("timeout operator onError => " + e);
+                        LOG.e("timeout operator onError => " + e);
                     }
 
                     @Override
                     public void onComplete() {
-                        Logger.i("timeout operator onComplete ");
+                        LOG.i("timeout operator onComplete ");
                     }
                 });
     }
@@ -233,12 +237,12 @@ public class UtilityOperator {
         }, new Consumer<String>() {
             @Override
             public void accept(String s) throws Exception {
-                Logger.i("using inner data => " + s);
+                LOG.i("using inner data => " + s);
             }
         }).subscribe(new Consumer<String>() {
             @Override
             public void accept(String s) throws Exception {
-                Logger.i("using operator result => " + s);
+                LOG.i("using operator result => " + s);
             }
         });
     }
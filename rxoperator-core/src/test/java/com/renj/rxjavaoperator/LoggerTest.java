@@ -0,0 +1,329 @@
+package com.renj.rxjavaoperator;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Logger 的本地单元测试
+ */
+public class LoggerTest {
+
+    @After
+    public void tearDown() {
+        Logger.stopAsync();
+        Logger.setSink(new StdoutLogSink());
+        Logger.setLogLevel(Logger.VERBOSE);
+        Logger.setCallSiteEnabled(false);
+        Logger.setAppTAG("RxJava2Operator");
+    }
+
+    @Test
+    public void format_replacesPlaceholdersInOrder() {
+        assertEquals("x=1", format("x={}", 1, 1, null, null));
+        assertEquals("x=1, y=b", format("x={}, y={}", 2, 1, "b", null));
+        assertEquals("1 2 3 {}", format("{} {} {} {}", 3, null, null, new Object[]{1, 2, 3}));
+        // 多余的参数忽略，缺少的参数保留占位符
+        assertEquals("x=1", format("x={}", 2, 1, 2, null));
+        assertEquals("x=null, y={}", format("x={}, y={}", 1, null, null, null));
+        assertEquals("no placeholder", format("no placeholder", 0, null, null, null));
+    }
+
+    @Test
+    public void format_treatsNullVarargsAsOneNullArgument() {
+        MemoryLogSink sink = new MemoryLogSink(10);
+        Logger.setSink(sink);
+        Logger.i("x={}", (Object[]) null);
+        Logger.forClass(LoggerTest.class).i("y={}", (Object[]) null);
+        Logger.rateLimit(10).i("z={}", (Object[]) null);
+        assertEquals(Arrays.asList("I/RxJava2Operator: x=null", "I/RxJava2Operator: LoggerTest: y=null",
+                "I/RxJava2Operator: z=null"), sink.getLines());
+    }
+
+    @Test
+    public void sink_callSiteIsOffByDefault() {
+        MemoryLogSink sink = new MemoryLogSink(10);
+        Logger.setSink(sink);
+        Logger.i("x={}", 1);
+        assertEquals("I/RxJava2Operator: x=1", sink.getLines().get(0));
+    }
+
+    @Test
+    public void sink_receivesFormattedLinesWithCallSite() {
+        MemoryLogSink sink = new MemoryLogSink(10);
+        Logger.setSink(sink);
+        Logger.setCallSiteEnabled(true);
+        Logger.setAppTAG("Test");
+        Logger.i("x={}", 1);
+        Logger.setLogLevel(Logger.WARN);
+        Logger.i("hidden");
+        Logger.e("{}+{}", 1, 2);
+        List<String> lines = sink.getLines();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0), lines.get(0).startsWith("I/Test: LoggerTest.sink_receivesFormattedLinesWithCallSite("));
+        assertTrue(lines.get(0), lines.get(0).endsWith("): x=1"));
+        assertTrue(lines.get(1), lines.get(1).endsWith("): 1+2"));
+    }
+
+    @Test
+    public void namedLogger_usesMostSpecificLevel() {
+        MemoryLogSink sink = new MemoryLogSink(10);
+        Logger.setSink(sink);
+        Logger.setLogLevel(Logger.WARN);
+        NamedLogger classLogger = Logger.forClass(LoggerTest.class);
+        NamedLogger tagLogger = Logger.forTag("Net.Http");
+        assertTrue(classLogger == Logger.forClass(LoggerTest.class));
+        assertFalse(classLogger.isEnabled(Logger.DEBUG));
+
+        // 包级别的设置对包中的类生效，类级别的设置优先
+        Logger.setLevel("com.renj", Logger.DEBUG);
+        assertTrue(classLogger.isEnabled(Logger.DEBUG));
+        assertFalse(classLogger.isEnabled(Logger.VERBOSE));
+        Logger.setLevel(LoggerTest.class.getName(), Logger.VERBOSE);
+        assertTrue(classLogger.isEnabled(Logger.VERBOSE));
+        Logger.setLevel("Net", Logger.ERROR);
+        assertFalse(tagLogger.isEnabled(Logger.WARN));
+
+        Logger.setCallSiteEnabled(false);
+        classLogger.v("x={}", 1);
+        tagLogger.w("hidden");
+        tagLogger.e("y={}", 2);
+        // 静态方法仍然使用全局级别
+        Logger.i("hidden");
+        assertEquals(2, sink.getLines().size());
+        assertEquals("V/RxJava2Operator: LoggerTest: x=1", sink.getLines().get(0));
+        assertEquals("E/Net.Http: y=2", sink.getLines().get(1));
+
+        Logger.setCallSiteEnabled(true);
+        classLogger.v("z");
+        assertTrue(sink.getLines().get(2), sink.getLines().get(2).startsWith("V/RxJava2Operator: LoggerTest.namedLogger_usesMostSpecificLevel("));
+
+        Logger.clearLevel("com.renj");
+        Logger.clearLevel(LoggerTest.class.getName());
+        Logger.clearLevel("Net");
+        assertFalse(classLogger.isEnabled(Logger.INFO));
+        assertTrue(tagLogger.isEnabled(Logger.WARN));
+    }
+
+    @Test
+    public void limiter_rateLimitsAndSummarizes() throws Exception {
+        MemoryLogSink sink = new MemoryLogSink(1000);
+        Logger.setSink(sink);
+        Logger.setCallSiteEnabled(false);
+        LogLimiter limiter = Logger.rateLimit(5);
+        for (int i = 0; i < 100; i++) {
+            limiter.i("x={}", i);
+        }
+        assertEquals(5, sink.getLines().size());
+        assertEquals(95, limiter.getSuppressedCount());
+
+        // 下一秒先打印汇总
+        Thread.sleep(1100);
+        limiter.i("x={}", 100);
+        List<String> lines = sink.getLines();
+        assertEquals(7, lines.size());
+        assertEquals("I/RxJava2Operator: suppressed 95 messages", lines.get(5));
+        assertEquals("I/RxJava2Operator: x=100", lines.get(6));
+    }
+
+    @Test
+    public void limiter_samples() {
+        MemoryLogSink sink = new MemoryLogSink(100000);
+        Logger.setSink(sink);
+        Logger.setCallSiteEnabled(false);
+        LogLimiter everyTenth = Logger.everyNth(10);
+        for (int i = 0; i < 100; i++) {
+            everyTenth.d("{}", i);
+        }
+        assertEquals(10, sink.getLines().size());
+        assertEquals("D/RxJava2Operator: 0", sink.getLines().get(0));
+        assertEquals("D/RxJava2Operator: 90", sink.getLines().get(9));
+
+        sink.clear();
+        LogLimiter sampled = Logger.forClass(LoggerTest.class).sample(0.1);
+        for (int i = 0; i < 100000; i++) {
+            sampled.v("{}", i);
+        }
+        // 全局级别为 VERBOSE，大约打印 10%
+        int printed = 0;
+        for (String line : sink.getLines()) {
+            if (!line.contains("suppressed")) {
+                printed++;
+            }
+        }
+        assertTrue("printed " + printed, printed > 9000 && printed < 11000);
+        assertEquals(100000, printed + sampled.getSuppressedCount());
+    }
+
+    @Test
+    public void async_blockStrategyKeepsEveryRecordInOrder() throws Exception {
+        final int threads = 4;
+        final int count = 5000;
+        MemoryLogSink sink = new MemoryLogSink(threads * count);
+        Logger.setSink(sink);
+        Logger.setCallSiteEnabled(false);
+        Logger.startAsync(64, LogOverflowStrategy.BLOCK);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            Thread worker = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < count; i++) {
+                        Logger.d("{} {}", id, i);
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        Logger.flush();
+        assertEquals(0, Logger.getDroppedCount());
+        List<String> lines = sink.getLines();
+        assertEquals(threads * count, lines.size());
+        int[] next = new int[threads];
+        for (String line : lines) {
+            String[] parts = line.substring(line.indexOf(": ") + 2).split(" ");
+            int id = Integer.parseInt(parts[0]);
+            assertEquals(next[id]++, Integer.parseInt(parts[1]));
+        }
+    }
+
+    @Test
+    public void async_dropStrategyCountsDroppedRecords() {
+        MemoryLogSink sink = new MemoryLogSink(100000);
+        Logger.setSink(sink);
+        Logger.setCallSiteEnabled(false);
+        Logger.startAsync(4, LogOverflowStrategy.DROP);
+        for (int i = 0; i < 100000; i++) {
+            Logger.i("{}", i);
+        }
+        Logger.flush();
+        assertEquals(100000, sink.getLines().size() + Logger.getDroppedCount());
+    }
+
+    @Test
+    public void structuredWriter_decodesToText() throws IOException {
+        File file = File.createTempFile("logger", ".bin");
+        BinaryLogWriter writer = BinaryLogWriter.open(file);
+        try {
+            Logger.setStructuredWriter(writer);
+            Logger.setCallSiteEnabled(false);
+            Logger.i("plain text");
+            Logger.w("int={} long={}", -5, 1L << 40);
+            Logger.e("{} {} {} {} {}", 1.5, true, null, "中文", 'c');
+            // 超过初始映射大小，需要扩大
+            for (int i = 0; i < 200000; i++) {
+                Logger.d("i={}", i);
+            }
+            Logger.setStructuredWriter(null);
+            writer.close();
+
+            StringBuilder text = new StringBuilder();
+            assertEquals(200003, BinaryLogDecoder.decode(file, text));
+            String[] lines = text.toString().split("\n");
+            assertTrue(lines[0], lines[0].endsWith(" I/RxJava2Operator: plain text"));
+            assertTrue(lines[1], lines[1].endsWith(" W/RxJava2Operator: int=-5 long=1099511627776"));
+            assertTrue(lines[2], lines[2].endsWith(" E/RxJava2Operator: 1.5 true null 中文 c"));
+            assertTrue(lines[200002], lines[200002].endsWith(" D/RxJava2Operator: i=199999"));
+        } finally {
+            Logger.setStructuredWriter(null);
+            writer.close();
+            file.delete();
+        }
+    }
+
+    @Test
+    public void structuredWriter_dropsRecordWhenArgumentToStringFails() throws IOException {
+        File file = File.createTempFile("logger", ".bin");
+        BinaryLogWriter writer = BinaryLogWriter.open(file);
+        try {
+            Logger.setStructuredWriter(writer);
+            Logger.setCallSiteEnabled(false);
+            Logger.i("before");
+            Logger.i("bad={}", new Object() {
+                @Override
+                public String toString() {
+                    throw new IllegalStateException("toString failed");
+                }
+            });
+            Logger.i("after={}", 1);
+            Logger.setStructuredWriter(null);
+            writer.close();
+
+            StringBuilder text = new StringBuilder();
+            assertEquals(2, BinaryLogDecoder.decode(file, text));
+            String[] lines = text.toString().split("\n");
+            assertTrue(lines[0], lines[0].endsWith(" I/RxJava2Operator: before"));
+            assertTrue(lines[1], lines[1].endsWith(" I/RxJava2Operator: after=1"));
+        } finally {
+            Logger.setStructuredWriter(null);
+            writer.close();
+            file.delete();
+        }
+    }
+
+    @Test
+    public void fileSink_rotatesFiles() throws IOException {
+        File dir = File.createTempFile("logger", "");
+        dir.delete();
+        dir.mkdirs();
+        File file = new File(dir, "app.log");
+        FileLogSink sink = new FileLogSink(file, 1024, 2);
+        try {
+            Logger.setSink(sink);
+            Logger.setCallSiteEnabled(false);
+            for (int i = 0; i < 200; i++) {
+                Logger.i("line {}", i);
+            }
+            Logger.flush();
+            assertTrue(new File(dir, "app.log.1").exists());
+            assertTrue(new File(dir, "app.log.2").exists());
+            assertFalse(new File(dir, "app.log.3").exists());
+            // 最新的文件中是最后打印的日志
+            List<String> lines = readLines(file);
+            assertTrue(lines.get(lines.size() - 1), lines.get(lines.size() - 1).endsWith(" I/RxJava2Operator: line 199"));
+            assertTrue(file.length() <= 1024 + 64);
+        } finally {
+            sink.close();
+            for (File child : dir.listFiles()) {
+                child.delete();
+            }
+            dir.delete();
+        }
+    }
+
+    private static List<String> readLines(File file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } finally {
+            reader.close();
+        }
+        return lines;
+    }
+
+    private static String format(String template, int argCount, Object arg1, Object arg2, Object[] args) {
+        StringBuilder builder = new StringBuilder();
+        Logger.format(builder, template, argCount, arg1, arg2, args);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package com.renj.rxjavaoperator.operator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+import io.reactivex.plugins.RxJavaPlugins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * ChunkedObservable 的本地单元测试，结果和逐个发射的 Observable 链相同
+ */
+public class ChunkedObservableTest {
+    private static final Function<Integer, String> TO_STRING = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer integer) throws Exception {
+            return "#" + integer;
+        }
+    };
+    private static final Predicate<Integer> MULTIPLE_OF_THREE = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer integer) throws Exception {
+            return integer % 3 == 0;
+        }
+    };
+
+    @Test
+    public void chunked_bufferMatchesObservableBuffer() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        Integer[] array = list.toArray(new Integer[0]);
+        for (int chunkSize : new int[]{1, 7, 64, 1000, 4096}) {
+            for (int count : new int[]{1, 10, 333}) {
+                List<List<String>> expected = Observable.fromIterable(list)
+                        .filter(MULTIPLE_OF_THREE).map(TO_STRING).buffer(count)
+                        .toList().blockingGet();
+                assertEquals(expected, ChunkedObservable.fromIterableChunked(list, chunkSize)
+                        .filter(MULTIPLE_OF_THREE).map(TO_STRING).buffer(count)
+                        .toList().blockingGet());
+                assertEquals(expected, ChunkedObservable.fromArrayChunked(array, chunkSize)
+                        .filter(MULTIPLE_OF_THREE).map(TO_STRING).buffer(count)
+                        .toList().blockingGet());
+            }
+        }
+        // count 和 skip 不同时使用普通的 buffer
+        assertEquals(Observable.fromIterable(list).buffer(3, 2).toList().blockingGet(),
+                ChunkedObservable.fromIterableChunked(list, 100).buffer(3, 2).toList().blockingGet());
+    }
+
+    @Test
+    public void chunked_emitsReusedChunks() {
+        Integer[] array = {1, 2, 3, 4, 5, 6, 7};
+        final List<Integer> sizes = new ArrayList<>();
+        final List<List<Integer>> copies = new ArrayList<>();
+        ChunkedObservable.fromArrayChunked(array, 3)
+                .toObservable()
+                .subscribe(new Consumer<Chunk<Integer>>() {
+                    @Override
+                    public void accept(Chunk<Integer> chunk) throws Exception {
+                        sizes.add(chunk.size());
+                        copies.add(chunk.toList());
+                    }
+                });
+        assertEquals(Arrays.asList(3, 3, 1), sizes);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Arrays.asList(7)), copies);
+
+        ChunkedObservable.fromIterableChunked(Arrays.asList(1, 2, 3, 4), 3).flatten()
+                .test()
+                .assertResult(1, 2, 3, 4);
+        ChunkedObservable.fromIterableChunked(Arrays.asList(1, 2, 3, 4), 3).flatten().take(2)
+                .test()
+                .assertResult(1, 2);
+    }
+
+    @Test
+    public void chunked_mapperErrorStopsTheSource() {
+        ChunkedObservable.fromIterableChunked(Arrays.asList(1, 2, 3), 2)
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer integer) throws Exception {
+                        if (integer == 3) {
+                            throw new IllegalStateException();
+                        }
+                        return integer;
+                    }
+                })
+                .flatten()
+                .test()
+                .assertFailure(IllegalStateException.class, 1, 2);
+    }
+
+    @Test
+    public void chunked_emitsElementsBeforeAnErrorInTheMiddleOfAChunk() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        // 第二批 [4, 8) 的中间出错
+        Function<Integer, Integer> failAtSix = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer integer) throws Exception {
+                if (integer == 6) {
+                    throw new IllegalStateException();
+                }
+                return integer;
+            }
+        };
+        Function<Integer, Integer> nullAtSix = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer integer) throws Exception {
+                return integer == 6 ? null : integer;
+            }
+        };
+        Predicate<Integer> failFilterAtSix = new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer integer) throws Exception {
+                if (integer == 6) {
+                    throw new IllegalStateException();
+                }
+                return integer % 2 == 1;
+            }
+        };
+
+        Observable.fromIterable(list).map(failAtSix).test()
+                .assertFailure(IllegalStateException.class, 0, 1, 2, 3, 4, 5);
+        ChunkedObservable.fromIterableChunked(list, 4).map(failAtSix).flatten().test()
+                .assertFailure(IllegalStateException.class, 0, 1, 2, 3, 4, 5);
+        ChunkedObservable.fromIterableChunked(list, 4).map(nullAtSix).flatten().test()
+                .assertFailure(NullPointerException.class, 0, 1, 2, 3, 4, 5);
+        ChunkedObservable.fromIterableChunked(list, 4).filter(failFilterAtSix).flatten().test()
+                .assertFailure(IllegalStateException.class, 1, 3, 5);
+
+        // buffer 发射出错之前已经满的 List，和 Observable.buffer() 相同
+        List<List<Integer>> expected = Observable.fromIterable(list).map(failAtSix).buffer(5).test()
+                .assertError(IllegalStateException.class).values();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), expected.get(0));
+        assertEquals(1, expected.size());
+        assertEquals(expected, ChunkedObservable.fromIterableChunked(list, 4).map(failAtSix).buffer(5).test()
+                .assertError(IllegalStateException.class).values());
+        assertEquals(expected, ChunkedObservable.fromIterableChunked(list, 4).map(nullAtSix).buffer(5).test()
+                .assertError(NullPointerException.class).values());
+    }
+
+    @Test
+    public void chunked_emitsElementsBeforeNullLikeFromArray() {
+        Integer[] array = {1, 2, 3, null, 5};
+        Observable.fromArray(array).test().assertFailure(NullPointerException.class, 1, 2, 3);
+        ChunkedObservable.fromArrayChunked(array, 2)
+                .map(TO_STRING)
+                .flatten()
+                .test()
+                .assertFailure(NullPointerException.class, "#1", "#2", "#3");
+        ChunkedObservable.fromIterableChunked(Arrays.asList(array), 4)
+                .flatten()
+                .test()
+                .assertFailure(NullPointerException.class, 1, 2, 3);
+    }
+
+    @Test
+    public void chunked_observerExceptionIsNotSentToItsOnError() {
+        final List<Throwable> errors = new ArrayList<>();
+        RxJavaPlugins.setErrorHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable throwable) throws Exception {
+                errors.add(throwable);
+            }
+        });
+        final List<Object> events = new ArrayList<>();
+        try {
+            ChunkedObservable.fromIterableChunked(Arrays.asList(1, 2, 3), 2).flatten().subscribe(new Observer<Integer>() {
+                @Override
+                public void onSubscribe(Disposable d) {
+                }
+
+                @Override
+                public void onNext(Integer value) {
+                    events.add(value);
+                    if (value == 2) {
+                        throw new IllegalStateException("onNext failed");
+                    }
+                }
+
+                @Override
+                public void onError(Throwable e) {
+                    events.add("onError");
+                }
+
+                @Override
+                public void onComplete() {
+                    events.add("onComplete");
+                }
+            });
+            fail();
+        } catch (NullPointerException expected) {
+            // Observable.subscribe() 把 Observer 抛出的异常交给 RxJavaPlugins 后抛出 NullPointerException
+        } finally {
+            RxJavaPlugins.setErrorHandler(null);
+        }
+        assertEquals(Arrays.<Object>asList(1, 2), events);
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,102 @@
+package com.renj.rxjavaoperator.operator;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * IntObservable、LongObservable 的本地单元测试
+ */
+public class PrimitiveObservableTest {
+    private static final IntObservable.IntPredicate EVEN = new IntObservable.IntPredicate() {
+        @Override
+        public boolean test(int value) throws Exception {
+            return (value & 1) == 0;
+        }
+    };
+    private static final IntObservable.IntMapper SQUARE = new IntObservable.IntMapper() {
+        @Override
+        public int apply(int value) throws Exception {
+            return value * value;
+        }
+    };
+    private static final IntObservable.IntReducer SUM = new IntObservable.IntReducer() {
+        @Override
+        public int apply(int accumulator, int value) throws Exception {
+            return accumulator + value;
+        }
+    };
+
+    @Test
+    public void intRange_mapFilterReduce() {
+        IntObservable.range(1, 10).filter(EVEN).map(SQUARE).boxed()
+                .test()
+                .assertResult(4, 16, 36, 64, 100);
+        IntObservable.range(1, 10).filter(EVEN).map(SQUARE).reduce(0, SUM)
+                .test()
+                .assertResult(220);
+        // 到达 Integer.MAX_VALUE 时不溢出
+        IntObservable.range(Integer.MAX_VALUE - 1, 2).boxed()
+                .test()
+                .assertResult(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void intRange_stopsWhenDisposedOrMapperFails() {
+        TestObserver<Integer> observer = IntObservable.range(0, 1000000).boxed().take(3).test();
+        observer.assertResult(0, 1, 2);
+
+        final Exception error = new Exception("boom");
+        IntObservable.range(0, 10)
+                .map(new IntObservable.IntMapper() {
+                    @Override
+                    public int apply(int value) throws Exception {
+                        if (value == 2) {
+                            throw error;
+                        }
+                        return value;
+                    }
+                })
+                .boxed()
+                .test()
+                .assertFailure(Exception.class, 0, 1);
+    }
+
+    @Test
+    public void longIntervalRange_emitsOnSchedulerAndCancels() {
+        TestScheduler scheduler = new TestScheduler();
+        TestObserver<Long> observer = LongObservable.intervalRange(5, 3, 100, 10, TimeUnit.MILLISECONDS, scheduler)
+                .map(new LongObservable.LongMapper() {
+                    @Override
+                    public long apply(long value) throws Exception {
+                        return value * 2;
+                    }
+                })
+                .boxed()
+                .test();
+        scheduler.advanceTimeBy(99, TimeUnit.MILLISECONDS);
+        observer.assertEmpty();
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        observer.assertValues(10L);
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        observer.assertResult(10L, 12L, 14L);
+
+        TestObserver<Long> interval = LongObservable.interval(0, 10, TimeUnit.MILLISECONDS, scheduler).boxed().test();
+        scheduler.advanceTimeBy(25, TimeUnit.MILLISECONDS);
+        interval.dispose();
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        List<Long> values = interval.values();
+        assertEquals(3, values.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void longInterval_rejectsNullScheduler() {
+        LongObservable.interval(0, 10, TimeUnit.MILLISECONDS, null);
+    }
+}
@@ -0,0 +1,274 @@
+package com.renj.rxjavaoperator.operator;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.plugins.RxJavaPlugins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * RxBusBridge 的本地单元测试，另外启动一个 JVM 进程作为对端
+ */
+public class RxBusBridgeTest {
+    private static final int STRING_ID = 1;
+    private static final int LONG_ID = 2;
+    private static final int EVENTS = 10000;
+
+    @Test
+    public void bridge_forwardsEventsBetweenProcesses() throws Exception {
+        RxBus bus = RxBus.create(1);
+        RxBusBridge bridge = new RxBusBridge(bus)
+                .register(STRING_ID, String.class, EventCodec.STRING)
+                .register(LONG_ID, Long.class, EventCodec.LONG);
+        final BlockingQueue<Long> echoes = new ArrayBlockingQueue<>(EVENTS);
+        bus.tObservable(Long.class).subscribe(new Consumer<Long>() {
+            @Override
+            public void accept(Long value) throws Exception {
+                // 对端收到后取反发回来
+                if (value < 0) {
+                    echoes.add(value);
+                }
+            }
+        });
+        final BlockingQueue<String> messages = new ArrayBlockingQueue<>(1);
+        bus.tObservable(String.class).subscribe(new Consumer<String>() {
+            @Override
+            public void accept(String message) throws Exception {
+                messages.add(message);
+            }
+        });
+        int port = bridge.listen(0);
+
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process peer = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                Peer.class.getName(), String.valueOf(port)).redirectErrorStream(true).start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (bridge.getPeerCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, bridge.getPeerCount());
+            // 对端订阅完成后会发一个字符串过来
+            assertEquals("ready", messages.poll(30, TimeUnit.SECONDS));
+
+            for (long i = 1; i <= EVENTS; i++) {
+                bus.post(i);
+            }
+            for (long i = 1; i <= EVENTS; i++) {
+                Long echo = echoes.poll(30, TimeUnit.SECONDS);
+                assertEquals(Long.valueOf(-i), echo);
+            }
+            // 收到的事件不会再转发回去
+            Thread.sleep(100);
+            assertTrue(echoes.isEmpty());
+        } finally {
+            bridge.close();
+            peer.getOutputStream().close();
+            peer.waitFor();
+        }
+    }
+
+    @Test
+    public void bridge_skipsAndReportsEventsRejectedByTheCodec() throws Exception {
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        RxJavaPlugins.setErrorHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable throwable) throws Exception {
+                errors.add(throwable);
+            }
+        });
+        RxBus sender = RxBus.create(1);
+        RxBus receiver = RxBus.create(1);
+        RxBusBridge senderBridge = new RxBusBridge(sender).register(STRING_ID, String.class, new EventCodec<String>() {
+            @Override
+            public void encode(String event, ByteBuffer buffer) {
+                if (event.isEmpty()) {
+                    throw new IllegalArgumentException("empty event");
+                }
+                EventCodec.STRING.encode(event, buffer);
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                return EventCodec.STRING.decode(buffer);
+            }
+        });
+        RxBusBridge receiverBridge = new RxBusBridge(receiver).register(STRING_ID, String.class, EventCodec.STRING);
+        final BlockingQueue<String> messages = new ArrayBlockingQueue<>(10);
+        receiver.tObservable(String.class).subscribe(new Consumer<String>() {
+            @Override
+            public void accept(String message) throws Exception {
+                messages.add(message);
+            }
+        });
+        try {
+            int port = receiverBridge.listen(0);
+            senderBridge.connect(port);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (receiverBridge.getPeerCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            sender.post("a");
+            sender.post("");
+            sender.post("b");
+            // 编码失败的事件被跳过，连接不受影响
+            assertEquals("a", messages.poll(30, TimeUnit.SECONDS));
+            assertEquals("b", messages.poll(30, TimeUnit.SECONDS));
+            assertEquals(1, senderBridge.getPeerCount());
+            assertEquals(1, errors.size());
+            assertTrue(errors.get(0) instanceof IllegalArgumentException);
+        } finally {
+            senderBridge.close();
+            receiverBridge.close();
+            RxJavaPlugins.setErrorHandler(null);
+        }
+    }
+
+    @Test
+    public void bridge_skipsAndReportsFramesRejectedByTheDecoder() throws Exception {
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        RxJavaPlugins.setErrorHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable throwable) throws Exception {
+                errors.add(throwable);
+            }
+        });
+        RxBus sender = RxBus.create(1);
+        RxBus receiver = RxBus.create(1);
+        RxBusBridge senderBridge = new RxBusBridge(sender).register(STRING_ID, String.class, EventCodec.STRING);
+        RxBusBridge receiverBridge = new RxBusBridge(receiver).register(STRING_ID, String.class, new EventCodec<String>() {
+            @Override
+            public void encode(String event, ByteBuffer buffer) {
+                EventCodec.STRING.encode(event, buffer);
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                String event = EventCodec.STRING.decode(buffer);
+                if (event.isEmpty()) {
+                    throw new IllegalArgumentException("empty event");
+                }
+                return event;
+            }
+        });
+        final BlockingQueue<String> messages = new ArrayBlockingQueue<>(10);
+        receiver.tObservable(String.class).subscribe(new Consumer<String>() {
+            @Override
+            public void accept(String message) throws Exception {
+                messages.add(message);
+            }
+        });
+        try {
+            int port = receiverBridge.listen(0);
+            senderBridge.connect(port);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (receiverBridge.getPeerCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            sender.post("a");
+            sender.post("");
+            sender.post("b");
+            // 解码失败的帧被跳过，连接不受影响
+            assertEquals("a", messages.poll(30, TimeUnit.SECONDS));
+            assertEquals("b", messages.poll(30, TimeUnit.SECONDS));
+            assertEquals(1, receiverBridge.getPeerCount());
+            assertEquals(1, errors.size());
+            assertTrue(errors.get(0) instanceof IllegalArgumentException);
+        } finally {
+            senderBridge.close();
+            receiverBridge.close();
+            RxJavaPlugins.setErrorHandler(null);
+        }
+    }
+
+    @Test
+    public void bridge_dropsAndCountsEventsWhenThePeerFallsBehind() throws Exception {
+        RxBus bus = RxBus.create(1);
+        RxBusBridge bridge = new RxBusBridge(bus).register(LONG_ID, Long.class, EventCodec.LONG);
+        // 对端只接受连接，从不读取
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.socket().bind(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0));
+        try {
+            bridge.connect(server.socket().getLocalPort());
+            SocketChannel stalled = server.accept();
+            try {
+                long events = 0;
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+                while (bridge.getDroppedCount() == 0 && System.nanoTime() < deadline) {
+                    bus.post(events++);
+                }
+                // 写线程被阻塞之后，排队的事件不会无限增加
+                assertTrue(bridge.getDroppedCount() > 0);
+                assertEquals(1, bridge.getPeerCount());
+            } finally {
+                stalled.close();
+            }
+        } finally {
+            bridge.close();
+            server.close();
+        }
+    }
+
+    @Test
+    public void bridge_rejectsSecondBridgeOnTheSameBus() {
+        RxBus bus = RxBus.create(1);
+        RxBusBridge first = new RxBusBridge(bus);
+        try {
+            new RxBusBridge(bus);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        first.close();
+        // 关闭后可以重新设置
+        RxBusBridge second = new RxBusBridge(bus);
+        // 重复关闭已经关闭的桥接不会清除新的桥接
+        first.close();
+        try {
+            new RxBusBridge(bus);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        second.close();
+    }
+
+    /**
+     * 对端进程，把收到的每个正数取反后发回去，标准输入关闭时退出
+     */
+    public static final class Peer {
+        public static void main(String[] args) throws Exception {
+            final RxBus bus = RxBus.create(1);
+            RxBusBridge bridge = new RxBusBridge(bus)
+                    .register(STRING_ID, String.class, EventCodec.STRING)
+                    .register(LONG_ID, Long.class, EventCodec.LONG);
+            bus.tObservable(Long.class).subscribe(new Consumer<Long>() {
+                @Override
+                public void accept(Long value) throws Exception {
+                    if (value > 0) {
+                        bus.post(-value);
+                    }
+                }
+            });
+            bridge.connect(Integer.parseInt(args[0]));
+            bus.post("ready");
+            while (System.in.read() >= 0) {
+                // 等待父进程关闭标准输入
+            }
+            bridge.close();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.renj.rxjavaoperator.operator;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.plugins.RxJavaPlugins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * RxBusJournal 的本地单元测试
+ */
+public class RxBusJournalTest {
+    private static final int STRING_ID = 1;
+    private static final int LONG_ID = 2;
+    // 超过初始映射大小，需要扩大
+    private static final int EVENTS = 200000;
+
+    @Test
+    public void journal_replaysEventsAfterRestart() throws Exception {
+        File file = File.createTempFile("rxbus", ".journal");
+        file.delete();
+        try {
+            RxBus bus = RxBus.create(1);
+            RxBusJournal journal = RxBusJournal.open(bus, file)
+                    .register(STRING_ID, String.class, EventCodec.STRING)
+                    .register(LONG_ID, Long.class, EventCodec.LONG);
+            for (long i = 0; i < EVENTS; i++) {
+                bus.post(i);
+            }
+            // 没有注册的类型不会被记录
+            bus.post(1);
+            journal.flush();
+            int offset = journal.getPosition();
+            bus.postSticky("state");
+            journal.close();
+
+            // 重新打开，重放到新的 RxBus 中
+            RxBus restarted = RxBus.create(1);
+            final List<Long> values = new ArrayList<>();
+            restarted.tObservable(Long.class).subscribe(new Consumer<Long>() {
+                @Override
+                public void accept(Long value) throws Exception {
+                    values.add(value);
+                }
+            });
+            RxBusJournal reopened = RxBusJournal.open(restarted, file)
+                    .register(STRING_ID, String.class, EventCodec.STRING)
+                    .register(LONG_ID, Long.class, EventCodec.LONG);
+            int end = reopened.replay(0);
+            assertEquals(reopened.getPosition(), end);
+            assertEquals(EVENTS, values.size());
+            for (int i = 0; i < EVENTS; i++) {
+                assertEquals(Long.valueOf(i), values.get(i));
+            }
+            assertEquals("state", restarted.getStickyEvent(String.class));
+
+            // 从保存的位置开始重放，重放的事件不会被再次记录
+            values.clear();
+            restarted.removetStickyEvent(String.class);
+            assertEquals(end, reopened.replay(offset));
+            assertEquals(0, values.size());
+            assertEquals("state", restarted.getStickyEvent(String.class));
+            reopened.flush();
+            assertEquals(end, reopened.getPosition());
+            reopened.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void journal_skipsAndReportsEventsRejectedByTheCodec() throws Exception {
+        File file = File.createTempFile("rxbus", ".journal");
+        file.delete();
+        final List<Throwable> errors = new ArrayList<>();
+        RxJavaPlugins.setErrorHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable throwable) throws Exception {
+                errors.add(throwable);
+            }
+        });
+        try {
+            RxBus bus = RxBus.create(1);
+            RxBusJournal journal = RxBusJournal.open(bus, file)
+                    .register(STRING_ID, String.class, new EventCodec<String>() {
+                        @Override
+                        public void encode(String event, ByteBuffer buffer) {
+                            if (event.isEmpty()) {
+                                throw new IllegalArgumentException("empty event");
+                            }
+                            EventCodec.STRING.encode(event, buffer);
+                        }
+
+                        @Override
+                        public String decode(ByteBuffer buffer) {
+                            return EventCodec.STRING.decode(buffer);
+                        }
+                    });
+            bus.post("a");
+            bus.post("");
+            bus.post("b");
+            journal.flush();
+            journal.close();
+            assertEquals(1, errors.size());
+            assertTrue(errors.get(0) instanceof IllegalArgumentException);
+
+            RxBus restarted = RxBus.create(1);
+            final List<String> values = new ArrayList<>();
+            restarted.tObservable(String.class).subscribe(new Consumer<String>() {
+                @Override
+                public void accept(String value) throws Exception {
+                    values.add(value);
+                }
+            });
+            RxBusJournal reopened = RxBusJournal.open(restarted, file)
+                    .register(STRING_ID, String.class, EventCodec.STRING);
+            reopened.replay(0);
+            reopened.close();
+            assertEquals(Arrays.asList("a", "b"), values);
+            // 没有因为编码错误而扩大文件
+            assertTrue(file.length() <= 1024 * 1024);
+        } finally {
+            RxJavaPlugins.setErrorHandler(null);
+            file.delete();
+        }
+    }
+
+    @Test
+    public void journal_dropsAndCountsEventsAfterTheWriterStops() throws Exception {
+        File file = File.createTempFile("rxbus", ".journal");
+        file.delete();
+        final List<Throwable> uncaught = new ArrayList<>();
+        Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(Thread thread, Throwable throwable) {
+                synchronized (uncaught) {
+                    uncaught.add(throwable);
+                }
+            }
+        });
+        try {
+            RxBus bus = RxBus.create(1);
+            RxBusJournal journal = RxBusJournal.open(bus, file)
+                    .register(STRING_ID, String.class, new EventCodec<String>() {
+                        @Override
+                        public void encode(String event, ByteBuffer buffer) {
+                            // 不是编码器拒绝事件，写线程会退出
+                            throw new WriterDeath();
+                        }
+
+                        @Override
+                        public String decode(ByteBuffer buffer) {
+                            return EventCodec.STRING.decode(buffer);
+                        }
+                    });
+            bus.post("a");
+            // 写线程退出时 flush() 不会一直等待
+            journal.flush();
+            assertEquals(0, journal.getDroppedCount());
+            bus.post("b");
+            bus.post("c");
+            assertEquals(2, journal.getDroppedCount());
+            journal.close();
+            synchronized (uncaught) {
+                assertEquals(1, uncaught.size());
+                assertTrue(uncaught.get(0) instanceof WriterDeath);
+            }
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+            file.delete();
+        }
+    }
+
+    @Test
+    public void journal_rejectsSecondJournalOnTheSameBus() throws Exception {
+        File file = File.createTempFile("rxbus", ".journal");
+        File other = File.createTempFile("rxbus", ".journal");
+        file.delete();
+        other.delete();
+        try {
+            RxBus bus = RxBus.create(1);
+            RxBusJournal first = RxBusJournal.open(bus, file).register(STRING_ID, String.class, EventCodec.STRING);
+            try {
+                RxBusJournal.open(bus, other);
+                fail();
+            } catch (IllegalStateException expected) {
+            }
+            first.close();
+            // 关闭后可以重新打开
+            RxBusJournal second = RxBusJournal.open(bus, other).register(STRING_ID, String.class, EventCodec.STRING);
+            // 重复关闭已经关闭的日志不会清除新的日志
+            first.close();
+            bus.post("a");
+            second.flush();
+            assertEquals(0, second.getDroppedCount());
+            assertTrue(second.getPosition() > 4);
+            second.close();
+            // 关闭之后直接追加的事件被丢弃
+            second.append("b", false);
+            assertEquals(1, second.getDroppedCount());
+        } finally {
+            file.delete();
+            other.delete();
+        }
+    }
+
+    private static final class WriterDeath extends Error {
+        private static final long serialVersionUID = 1L;
+    }
+}
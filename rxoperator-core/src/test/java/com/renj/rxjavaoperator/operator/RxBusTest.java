@@ -0,0 +1,645 @@
+package com.renj.rxjavaoperator.operator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.functions.Consumer;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * RxBus 的本地单元测试
+ */
+public class RxBusTest {
+    private static final int ROUNDS = 300;
+    private static final int EVENTS = 200;
+
+    @Test
+    public void stickySubscription_noLossNoDuplicate() throws Exception {
+        Random random = new Random(0);
+        for (int round = 0; round < ROUNDS; round++) {
+            final RxBus bus = RxBus.create(1 + round % 4);
+            final AtomicInteger posted = new AtomicInteger();
+            final CountDownLatch done = new CountDownLatch(1);
+            Thread poster = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < EVENTS; i++) {
+                        bus.postSticky(i);
+                        posted.incrementAndGet();
+                    }
+                    done.countDown();
+                }
+            });
+            poster.start();
+
+            // 在发送过程中的任意时刻订阅
+            int subscribeAt = random.nextInt(EVENTS);
+            while (posted.get() < subscribeAt) {
+                Thread.yield();
+            }
+            final List<Integer> received = Collections.synchronizedList(new ArrayList<Integer>());
+            Disposable disposable = bus.tObservableSticky(Integer.class).subscribe(new Consumer<Integer>() {
+                @Override
+                public void accept(Integer integer) throws Exception {
+                    received.add(integer);
+                }
+            });
+            done.await();
+            disposable.dispose();
+
+            // 第一个是订阅时最新的粘性事件，之后连续、不重复，最后一个是最后发送的事件
+            assertTrue("round " + round + " received nothing", !received.isEmpty());
+            int first = received.get(0);
+            for (int i = 0; i < received.size(); i++) {
+                assertEquals("round " + round + " " + received, first + i, (int) received.get(i));
+            }
+            assertEquals(EVENTS - 1, (int) received.get(received.size() - 1));
+        }
+    }
+
+    @Test
+    public void stickySubscription_replaysDepth() {
+        RxBus bus = RxBus.create(1);
+        bus.setStickyDepth(Integer.class, 3);
+        for (int i = 0; i < 5; i++) {
+            bus.postSticky(i);
+        }
+        final List<Integer> received = new ArrayList<>();
+        bus.tObservableSticky(Integer.class).subscribe(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer integer) throws Exception {
+                received.add(integer);
+            }
+        });
+        bus.postSticky(5);
+        assertEquals(java.util.Arrays.asList(2, 3, 4, 5), received);
+        assertEquals(5, (int) bus.getStickyEvent(Integer.class));
+    }
+
+    @Test
+    public void supertypeSubscription_receivesSubtypes() {
+        RxBus bus = RxBus.create(1);
+        bus.postSticky(1);
+        bus.postSticky(2L);
+        final List<Number> received = new ArrayList<>();
+        bus.tObservableSticky(Number.class).subscribe(new Consumer<Number>() {
+            @Override
+            public void accept(Number number) throws Exception {
+                received.add(number);
+            }
+        });
+        bus.post(3.0);
+        bus.post("not a number");
+        assertEquals(java.util.Arrays.<Number>asList(1, 2L, 3.0), received);
+        assertEquals(2L, bus.getStickyEvent(Number.class));
+        // 按具体类型移除，不影响子类型
+        assertEquals(null, bus.removetStickyEvent(Object.class));
+        assertEquals(Long.valueOf(2L), bus.removetStickyEvent(Long.class));
+        assertEquals(1, bus.getStickyEvent(Number.class));
+        bus.postSticky(4L);
+        assertEquals(4L, bus.removeStickyEventWithSubtypes(Comparable.class));
+        assertEquals(null, bus.getStickyEvent(Integer.class));
+    }
+
+    @Test
+    public void shardedPost_keepsOrderPerKey() throws Exception {
+        final RxBus bus = RxBus.create(4);
+        final int keys = 8;
+        final int perKey = 5000;
+        final int[] next = new int[keys];
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final AtomicInteger outOfOrder = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(keys * perKey);
+        bus.tObservable(Long.class).subscribe(new Consumer<Long>() {
+            @Override
+            public void accept(Long value) throws Exception {
+                // 多个分片同时分发时订阅者也不会被并发回调
+                if (concurrent.incrementAndGet() != 1) {
+                    overlaps.incrementAndGet();
+                }
+                int key = (int) (value / perKey);
+                int sequence = (int) (value % perKey);
+                if (next[key]++ != sequence) {
+                    outOfOrder.incrementAndGet();
+                }
+                concurrent.decrementAndGet();
+                done.countDown();
+            }
+        });
+        List<Thread> posters = new ArrayList<>();
+        for (int k = 0; k < keys; k++) {
+            final int key = k;
+            Thread poster = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perKey; i++) {
+                        bus.post(key, (long) key * perKey + i);
+                    }
+                }
+            });
+            posters.add(poster);
+            poster.start();
+        }
+        for (Thread poster : posters) {
+            poster.join();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        assertEquals(0, outOfOrder.get());
+        for (int k = 0; k < keys; k++) {
+            assertEquals(perKey, next[k]);
+        }
+    }
+
+    @Test
+    public void flowable_overflowStrategiesAndDroppedCount() {
+        // 订阅者一直不请求数据，缓冲区为 4，发送 10 个事件
+        RxBus bus = RxBus.create(1);
+        TestSubscriber<Integer> dropOldest = bus.tFlowable(Integer.class, BusOverflowStrategy.DROP_OLDEST, 4).test(0);
+        postRange(bus, 1, 10);
+        dropOldest.assertEmpty();
+        dropOldest.request(10);
+        dropOldest.assertValues(7, 8, 9, 10);
+        assertEquals(6, bus.getDroppedEventCount(Integer.class));
+
+        bus = RxBus.create(1);
+        TestSubscriber<Integer> dropLatest = bus.tFlowable(Integer.class, BusOverflowStrategy.DROP_LATEST, 4).test(0);
+        postRange(bus, 1, 10);
+        dropLatest.request(10);
+        // 丢弃的是缓冲区中最新的事件，最后发送的事件总是保留
+        dropLatest.assertValues(1, 2, 3, 10);
+        assertEquals(6, bus.getDroppedEventCount(Integer.class));
+
+        bus = RxBus.create(1);
+        TestSubscriber<Integer> latest = bus.tFlowable(Integer.class, BusOverflowStrategy.LATEST, 4).test(0);
+        postRange(bus, 1, 10);
+        latest.request(10);
+        latest.assertValues(10);
+        assertEquals(9, bus.getDroppedEventCount(Integer.class));
+
+        bus = RxBus.create(1);
+        TestSubscriber<Integer> buffer = bus.tFlowable(Integer.class, BusOverflowStrategy.BUFFER, 4).test(0);
+        postRange(bus, 1, 10);
+        buffer.assertFailure(MissingBackpressureException.class);
+        // 出错后取消订阅，之后的事件不再计数
+        assertEquals(1, bus.getDroppedEventCount(Integer.class));
+        assertEquals(0, bus.subscriberCount(Integer.class));
+        assertEquals(0, bus.getDroppedEventCount(String.class));
+    }
+
+    @Test
+    public void postAll_deliversOneBatchPerChannel() {
+        RxBus bus = RxBus.create(1);
+        TestObserver<Integer> singles = bus.tObservable(Integer.class).test();
+        TestObserver<List<Integer>> integerBatches = bus.tObservableBatched(Integer.class).test();
+        TestObserver<List<Number>> numberBatches = bus.tObservableBatched(Number.class).test();
+        TestObserver<List<String>> stringBatches = bus.tObservableBatched(String.class).test();
+
+        bus.postAll(1, "a", 2, 3L, "b");
+        bus.postAll(Collections.emptyList());
+        // 单独发送的事件各自是一批
+        bus.post(4);
+        bus.post(5);
+
+        singles.assertValues(1, 2, 4, 5);
+        // assertValues() 的参数是泛型数组，比较 values() 避免 unchecked 警告
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(4), Collections.singletonList(5)),
+                integerBatches.values());
+        assertEquals(Arrays.asList(Arrays.<Number>asList(1, 2, 3L), Collections.<Number>singletonList(4), Collections.<Number>singletonList(5)),
+                numberBatches.values());
+        assertEquals(Collections.singletonList(Arrays.asList("a", "b")), stringBatches.values());
+        try {
+            integerBatches.values().get(0).add(6);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+        try {
+            bus.postAll(7, null);
+            fail();
+        } catch (NullPointerException expected) {
+        }
+    }
+
+    @Test
+    public void metrics_countPostsFanOutLatencyAndQueueDepth() {
+        RxBus bus = RxBus.create(1);
+        assertNull(bus.getMetrics());
+        bus.setMetricsEnabled(true);
+        RxBusMetrics metrics = bus.getMetrics();
+        bus.tObservable(Integer.class).test();
+        TestScheduler scheduler = new TestScheduler();
+        TestObserver<Integer> tracked = bus.tObservable(Integer.class)
+                .compose(bus.<Integer>observeOnTracked(Integer.class, scheduler))
+                .test();
+
+        postRange(bus, 1, 10);
+        bus.postAll(11, 12, 13, 14, 15);
+        assertEquals(15, metrics.getPostCount(Integer.class));
+        assertEquals(2, metrics.getSubscriberCount(Integer.class));
+        assertEquals(2.0, metrics.getAverageFanOut(Integer.class), 0.001);
+        assertEquals(15, metrics.getLatency(Integer.class).getCount());
+        assertTrue(metrics.getEventTypes().contains(Integer.class));
+        // 还没有在 scheduler 中处理的事件
+        assertEquals(15, metrics.getObserveOnQueueDepth(Integer.class));
+        scheduler.triggerActions();
+        assertEquals(15, tracked.valueCount());
+        assertEquals(0, metrics.getObserveOnQueueDepth(Integer.class));
+
+        metrics.reset();
+        assertEquals(0, metrics.getPostCount(Integer.class));
+        assertEquals(0, metrics.getLatency(Integer.class).getCount());
+        bus.setMetricsEnabled(false);
+        assertNull(bus.getMetrics());
+    }
+
+    @Test
+    public void latencyHistogram_bucketsAndPercentiles() {
+        // 小于 64 的值每个值一个桶，之后每个 2 的幂区间 32 个桶
+        for (long value = 0; value < 64; value++) {
+            assertEquals(value, LatencyHistogram.bucketValue(LatencyHistogram.bucketIndex(value)));
+        }
+        int lastIndex = -1;
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long lower = LatencyHistogram.bucketValue(index);
+            assertTrue(index >= lastIndex);
+            assertTrue(value + " -> " + lower, lower <= value && value - lower <= value / 32);
+            lastIndex = index;
+        }
+        assertEquals(LatencyHistogram.bucketIndex(Long.MAX_VALUE),
+                LatencyHistogram.bucketIndex(LatencyHistogram.bucketValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE))));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(102, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        // 98 和 99 在同一个桶中，返回桶的下限
+        assertEquals(98, histogram.getValueAtPercentile(97));
+        assertTrue(histogram.getValueAtPercentile(100) > 1L << 62);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void priority_highFirstAndLowNotStarved() throws Exception {
+        final RxBus bus = RxBus.create(1);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> received = Collections.synchronizedList(new ArrayList<String>());
+        bus.tObservable(String.class).subscribe(new Consumer<String>() {
+            @Override
+            public void accept(String event) throws Exception {
+                if (event.equals("gate")) {
+                    // 阻塞分发线程，让之后的事件都在队列中排队
+                    entered.countDown();
+                    release.await();
+                } else {
+                    received.add(event);
+                }
+            }
+        });
+        Thread gate = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                bus.postPriority("gate", EventPriority.LOW);
+            }
+        });
+        gate.start();
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 20; i++) {
+            bus.postPriority("L" + i, EventPriority.LOW);
+            bus.postPriority("N" + i, EventPriority.NORMAL);
+            bus.postPriority("H" + i, EventPriority.HIGH);
+        }
+        release.countDown();
+        gate.join();
+
+        // 高优先级先分发，每连续分发 STARVATION_LIMIT(8) 个较高优先级的事件后分发一个低优先级的事件
+        List<String> expected = new ArrayList<>();
+        addRange(expected, "H", 0, 8);
+        expected.add("L0");
+        addRange(expected, "H", 8, 16);
+        expected.add("L1");
+        addRange(expected, "H", 16, 20);
+        addRange(expected, "N", 0, 4);
+        expected.add("L2");
+        addRange(expected, "N", 4, 12);
+        expected.add("L3");
+        addRange(expected, "N", 12, 20);
+        expected.add("L4");
+        addRange(expected, "L", 5, 20);
+        assertEquals(8, EventChannel.STARVATION_LIMIT);
+        assertEquals(expected, received);
+    }
+
+    @Test
+    public void conflated_keepsOnlyLatestPerSubscription() {
+        RxBus bus = RxBus.create(1);
+        TestScheduler fast = new TestScheduler();
+        TestScheduler slow = new TestScheduler();
+        TestObserver<String> fastObserver = bus.tObservableConflated(String.class, fast).test();
+        TestObserver<String> slowObserver = bus.tObservableConflated(String.class, slow).test();
+        for (String event : new String[]{"a", "b", "c"}) {
+            bus.post(event);
+            fast.triggerActions();
+        }
+        slow.triggerActions();
+        // 每个订阅者有自己的待处理事件，处理及时的订阅者收到所有事件
+        fastObserver.assertValues("a", "b", "c");
+        slowObserver.assertValues("c");
+
+        // 实现了 ConflatingEvent 的事件按 key 分别保留最新的，key 的顺序按第一次出现的先后
+        TestObserver<Keyed> keyed = bus.tObservableConflated(Keyed.class, slow).test();
+        bus.post(new Keyed("x", 1));
+        bus.post(new Keyed("y", 1));
+        bus.post(new Keyed("x", 2));
+        bus.post(new Keyed("z", 1));
+        bus.post(new Keyed("y", 2));
+        slow.triggerActions();
+        assertEquals("[x=2, y=2, z=1]", keyed.values().toString());
+        keyed.dispose();
+        bus.post(new Keyed("x", 3));
+        slow.triggerActions();
+        assertEquals(3, keyed.valueCount());
+
+        // key 为 null 时按事件类型合并
+        TestObserver<Keyed> nullKeyed = bus.tObservableConflated(Keyed.class, slow).test();
+        bus.post(new Keyed(null, 1));
+        bus.post(new Keyed("x", 4));
+        bus.post(new Keyed(null, 2));
+        slow.triggerActions();
+        nullKeyed.assertNoErrors();
+        assertEquals("[null=2, x=4]", nullKeyed.values().toString());
+    }
+
+    @Test
+    public void throwingSubscriber_isDisposedWithoutStoppingDelivery() {
+        for (int shards : new int[]{1, 4}) {
+            RxBus bus = RxBus.create(shards);
+            final List<String> received = new ArrayList<>();
+            final List<Throwable> errors = new ArrayList<>();
+            bus.tObservable(String.class).subscribe(new Observer<String>() {
+                @Override
+                public void onSubscribe(Disposable d) {
+                }
+
+                @Override
+                public void onNext(String value) {
+                    if ("boom".equals(value)) {
+                        throw new IllegalStateException(value);
+                    }
+                    received.add(value);
+                }
+
+                @Override
+                public void onError(Throwable e) {
+                    errors.add(e);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            TestObserver<String> other = bus.tObservable(String.class).test();
+            TestObserver<String> sticky = bus.tObservableSticky(String.class).test();
+            bus.post("a");
+            bus.post("boom");
+            bus.post("b");
+            bus.postSticky("c");
+
+            assertEquals(Arrays.asList("a"), received);
+            assertEquals(1, errors.size());
+            assertTrue(errors.get(0) instanceof IllegalStateException);
+            other.assertValues("a", "boom", "b", "c");
+            sticky.assertValues("a", "boom", "b", "c");
+            assertEquals(2, bus.subscriberCount(String.class));
+        }
+    }
+
+    @Test
+    public void scope_disposeRemovesAllSubscriptions() {
+        RxBus bus = RxBus.create(1);
+        RxBusScope scope = bus.newScope();
+        final AtomicInteger received = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            scope.subscribe(String.class, new Consumer<String>() {
+                @Override
+                public void accept(String s) throws Exception {
+                    received.incrementAndGet();
+                }
+            });
+        }
+        bus.post("a");
+        assertEquals(10, received.get());
+        assertEquals(10, bus.subscriberCount(String.class));
+
+        scope.dispose();
+        bus.post("b");
+        assertEquals(10, received.get());
+        assertEquals(0, bus.subscriberCount(String.class));
+    }
+
+    @Test
+    public void scope_collectedScopesArePurged() {
+        RxBus bus = RxBus.create(1);
+        final AtomicInteger received = new AtomicInteger();
+        Consumer<String> consumer = new Consumer<String>() {
+            @Override
+            public void accept(String s) throws Exception {
+                received.incrementAndGet();
+            }
+        };
+        TestObserver<String> unscoped = bus.tObservable(String.class).test();
+        RxBusScope kept = bus.newScope();
+        kept.subscribe(String.class, consumer);
+        // 不断创建作用域而不取消，作用域被回收后订阅者个数(即每次发送的开销)不应该一直增长
+        for (int round = 0; round < 20; round++) {
+            List<Disposable> subscriptions = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                subscriptions.add(bus.newScope().subscribe(String.class, consumer));
+            }
+            received.set(0);
+            bus.post("a");
+            assertEquals(101, received.get());
+
+            for (Disposable subscription : subscriptions) {
+                RxBusScope.simulateCollected(subscription);
+            }
+            // 回收之后发送的事件只有没有被回收的订阅者收到
+            received.set(0);
+            bus.post("b");
+            assertEquals(1, received.get());
+            assertEquals(2, bus.subscriberCount(String.class));
+        }
+        assertEquals(40, unscoped.valueCount());
+        assertEquals(1, kept.size());
+    }
+
+    @Test
+    public void asyncDelivery_pinsEachSubscriberToOneWorker() throws Exception {
+        final RxBus bus = RxBus.create(2);
+        bus.setDeliveryWorkerCount(2);
+        final int subscribers = 6;
+        final List<List<Integer>> received = new ArrayList<>();
+        final List<Set<Thread>> threads = new ArrayList<>();
+        final Set<Thread> allThreads = Collections.synchronizedSet(new HashSet<Thread>());
+        final CountDownLatch done = new CountDownLatch(subscribers);
+        for (int s = 0; s < subscribers; s++) {
+            final List<Integer> values = new ArrayList<>();
+            final Set<Thread> subscriberThreads = new HashSet<>();
+            received.add(values);
+            threads.add(subscriberThreads);
+            bus.tObservableAsync(Integer.class).subscribe(new Consumer<Integer>() {
+                @Override
+                public void accept(Integer value) throws Exception {
+                    values.add(value);
+                    subscriberThreads.add(Thread.currentThread());
+                    allThreads.add(Thread.currentThread());
+                    if (value == EVENTS * 10 - 1) {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+        for (int i = 0; i < EVENTS * 10; i++) {
+            bus.post(i);
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int s = 0; s < subscribers; s++) {
+            // 每个订阅者只在一个线程中，按发送顺序收到所有事件
+            assertEquals(1, threads.get(s).size());
+            List<Integer> values = received.get(s);
+            assertEquals(EVENTS * 10, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(Integer.valueOf(i), values.get(i));
+            }
+        }
+        assertEquals(2, allThreads.size());
+    }
+
+    @Test
+    public void asyncDelivery_shutdownStopsWorkers() throws Exception {
+        RxBus bus = RxBus.create(1);
+        bus.setDeliveryWorkerCount(2);
+        final Set<Thread> workers = Collections.synchronizedSet(new HashSet<Thread>());
+        final AtomicInteger received = new AtomicInteger();
+        final CountDownLatch first = new CountDownLatch(1);
+        bus.tObservableAsync(Integer.class).subscribe(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) throws Exception {
+                workers.add(Thread.currentThread());
+                received.incrementAndGet();
+                first.countDown();
+            }
+        });
+        bus.post(1);
+        assertTrue(first.await(10, TimeUnit.SECONDS));
+
+        bus.shutdown();
+        assertTrue(bus.awaitTermination(10, TimeUnit.SECONDS));
+        for (Thread worker : workers) {
+            // 线程池的状态先变为已结束，线程随后退出
+            worker.join(10000);
+            assertFalse(worker.isAlive());
+        }
+        // 停止后发送的事件丢弃，也不能再创建异步订阅
+        bus.post(2);
+        assertEquals(1, received.get());
+        try {
+            bus.tObservableAsync(Integer.class);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void asyncDelivery_shutdownDeliversEventsQueuedBeforeIt() throws Exception {
+        RxBus bus = RxBus.create(1);
+        bus.setDeliveryWorkerCount(1);
+        final int events = DeliveryExecutor.BATCH_SIZE * 3 + 1;
+        final AtomicInteger received = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        bus.tObservableAsync(Integer.class).subscribe(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) throws Exception {
+                if (value == 0) {
+                    started.countDown();
+                    release.await();
+                }
+                received.incrementAndGet();
+            }
+        });
+        postRange(bus, 0, events - 1);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // 所有事件都已经排队，处理到一半时停止：让出线程会被拒绝
+        bus.shutdown();
+        release.countDown();
+        assertTrue(bus.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(events, received.get());
+    }
+
+    private static void postRange(RxBus bus, int start, int end) {
+        for (int i = start; i <= end; i++) {
+            bus.post(i);
+        }
+    }
+
+    private static void addRange(List<String> list, String prefix, int start, int end) {
+        for (int i = start; i < end; i++) {
+            list.add(prefix + i);
+        }
+    }
+
+    static final class Keyed implements ConflatingEvent {
+        final String key;
+        final int value;
+
+        Keyed(String key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public Object conflationKey() {
+            return key;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}